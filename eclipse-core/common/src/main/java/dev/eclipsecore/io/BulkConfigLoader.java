@@ -0,0 +1,116 @@
+package dev.eclipsecore.io;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads config files in parallel at startup.
+ *
+ * <p>Mods submit their loads from their initializers; each starts right away on a small pool
+ * instead of running in turn on the thread that initializes mods. {@link #awaitAll()} is the
+ * join point: call it before the first use of any submitted config. The time each load took is
+ * logged at debug level, and a summary when the loads are awaited.</p>
+ */
+public final class BulkConfigLoader {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger("EclipseCore");
+    
+    // Loads are mostly parsing, so roughly one per core; threads exit once startup is done
+    private static final int MAX_THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final long IDLE_SECONDS = 10;
+    
+    private static final BulkConfigLoader INSTANCE = new BulkConfigLoader();
+    
+    private final ThreadPoolExecutor executor;
+    
+    // Loads submitted since the last awaitAll(); guarded by itself
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+    private long firstSubmitNanos;
+    // Summed time of the loads, to compare with the time they took together
+    private final AtomicLong loadNanos = new AtomicLong();
+    
+    private BulkConfigLoader() {
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, IDLE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "EclipseCore Config Loader #" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+    
+    public static BulkConfigLoader get() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Start a load in the background.
+     *
+     * @param name names the config in the log, e.g. its file
+     * @param load reads the config; runs on a loader thread
+     * @return completes when the load is done, exceptionally if it threw
+     */
+    public CompletableFuture<Void> submit(String name, Runnable load) {
+        long submitted = System.nanoTime();
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                load.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to load config {}", name, e);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            this.loadNanos.addAndGet(elapsed);
+            LOGGER.debug("Loaded {} in {} ms on {}", name, elapsed / 1_000_000.0, Thread.currentThread().getName());
+        }, this.executor);
+        
+        synchronized (this.pending) {
+            if (this.pending.isEmpty()) {
+                this.firstSubmitNanos = submitted;
+            }
+            this.pending.add(future);
+        }
+        return future;
+    }
+    
+    /**
+     * Wait for every load submitted so far. Failed loads have been logged and are not rethrown.
+     */
+    public void awaitAll() {
+        List<CompletableFuture<Void>> loads;
+        long since;
+        synchronized (this.pending) {
+            loads = new ArrayList<>(this.pending);
+            this.pending.clear();
+            since = this.firstSubmitNanos;
+        }
+        if (loads.isEmpty()) {
+            return;
+        }
+        
+        for (CompletableFuture<Void> load : loads) {
+            try {
+                load.join();
+            } catch (CompletionException | CancellationException e) {
+                // Logged by the load
+            }
+        }
+        
+        LOGGER.info("Loaded {} config(s) in {} ms ({} ms of loading on up to {} threads)",
+            loads.size(), (System.nanoTime() - since) / 1_000_000.0,
+            this.loadNanos.getAndSet(0) / 1_000_000.0, MAX_THREADS);
+    }
+}
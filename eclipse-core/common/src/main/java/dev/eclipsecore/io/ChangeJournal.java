@@ -0,0 +1,199 @@
+package dev.eclipsecore.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of key/value change sets kept next to a config file.
+ *
+ * <p>Each change set is one record: its payload length, a CRC32 of the payload, then the
+ * payload (a count followed by length-prefixed UTF-8 keys and values). A record cut short by a
+ * crash, or one whose checksum doesn't match, ends the log; it and anything after it are
+ * dropped when the log is replayed.</p>
+ *
+ * <p>Not thread-safe; callers serialize access, e.g. by doing all I/O for a config through
+ * {@link ConfigIoScheduler}.</p>
+ */
+public final class ChangeJournal {
+    
+    private static final int HEADER_BYTES = 8;
+    
+    private final Path path;
+    private long size = -1;
+    private int records = 0;
+    
+    public ChangeJournal(Path path) {
+        this.path = path;
+    }
+    
+    public Path getPath() {
+        return path;
+    }
+    
+    /**
+     * Size of the valid part of the log in bytes. Known after {@link #replay}, an append or
+     * {@link #clear}.
+     */
+    public long size() {
+        return Math.max(this.size, 0);
+    }
+    
+    /**
+     * Number of valid records. Known after {@link #replay}, an append or {@link #clear}.
+     */
+    public int records() {
+        return this.records;
+    }
+    
+    /**
+     * Whether the log has grown past either limit and should be folded into the main file.
+     */
+    public boolean exceeds(long maxBytes, int maxRecords) {
+        return size() > maxBytes || this.records > maxRecords;
+    }
+    
+    /**
+     * Append one change set and sync it to disk.
+     */
+    public void append(Map<String, String> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (this.size < 0) {
+            // Find where the valid records end, so the new one isn't written after a torn tail
+            replay((key, value) -> {});
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + changes.size() * 32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0); // length and checksum, filled in below
+        out.writeInt(0);
+        out.writeInt(changes.size());
+        for (Map.Entry<String, String> change : changes.entrySet()) {
+            writeString(out, change.getKey());
+            writeString(out, change.getValue());
+        }
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        int length = record.capacity() - HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), HEADER_BYTES, length);
+        record.putInt(0, length);
+        record.putInt(4, (int) crc.getValue());
+        
+        Path parent = this.path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Write after the last valid record
+            long position = this.size;
+            channel.position(position);
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            channel.truncate(position + record.capacity());
+            channel.force(false);
+            this.size = position + record.capacity();
+        }
+        this.records++;
+    }
+    
+    /**
+     * Pass every change of every valid record to the consumer, oldest first.
+     * A torn or corrupt tail is cut off the file so later appends follow the valid records.
+     *
+     * @return the number of records replayed
+     */
+    public int replay(BiConsumer<String, String> consumer) throws IOException {
+        this.size = 0;
+        this.records = 0;
+        if (!Files.exists(this.path)) {
+            return 0;
+        }
+        
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.path));
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 4 || length > buffer.remaining()) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.array(), start + HEADER_BYTES, length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            
+            Map<String, String> changes = readRecord(buffer.slice(start + HEADER_BYTES, length));
+            if (changes == null) {
+                break;
+            }
+            changes.forEach(consumer);
+            buffer.position(start + HEADER_BYTES + length);
+            this.size = buffer.position();
+            this.records++;
+        }
+        
+        if (this.size < buffer.capacity()) {
+            try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.WRITE)) {
+                channel.truncate(this.size);
+                channel.force(false);
+            }
+        }
+        return this.records;
+    }
+    
+    /**
+     * Empty the log, after its changes have been written to the main file.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(this.path);
+        this.size = 0;
+        this.records = 0;
+    }
+    
+    // Null if the payload doesn't parse, which a matching checksum makes unlikely
+    private static Map<String, String> readRecord(ByteBuffer payload) {
+        try {
+            int count = payload.getInt();
+            if (count < 0) {
+                return null;
+            }
+            Map<String, String> changes = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                changes.put(readString(payload), readString(payload));
+            }
+            return payload.hasRemaining() ? null : changes;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Bad string length " + length);
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
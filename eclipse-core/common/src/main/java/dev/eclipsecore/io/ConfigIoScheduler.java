@@ -0,0 +1,271 @@
+package dev.eclipsecore.io;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide queue for writing config files off the calling thread.
+ *
+ * <p>Submitted writes wait a short delay, then every queued file is written in one batch by a
+ * small fixed pool, so many configs saved at once don't each flush on their own. A file
+ * submitted again before its write starts keeps a single queue entry with the newest content.
+ * Each file is written to a temporary sibling, synced and moved over the original, so a crash
+ * mid-write leaves the previous file intact. Whatever is still queued when the JVM exits is
+ * written by a shutdown hook.</p>
+ *
+ * <p>Besides whole-file writes, any {@link FileTask} can be queued for a file, e.g. to append to
+ * a journal kept next to it. Tasks and writes for the same file never run at the same time.</p>
+ */
+public final class ConfigIoScheduler {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger("EclipseCore");
+    
+    // How long a write waits for others to batch with
+    private static final long FLUSH_DELAY_MILLIS = 250;
+    // Files written at the same time
+    private static final int MAX_CONCURRENT_WRITES = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int BUFFER_SIZE = 8192;
+    
+    private static final ConfigIoScheduler INSTANCE = new ConfigIoScheduler();
+    
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        runnable -> daemon(runnable, "EclipseCore Config Flush"));
+    private final ExecutorService writers;
+    
+    // Queued writes by file; a file has at most one
+    private final Object lock = new Object();
+    private final Map<Path, PendingWrite> pending = new LinkedHashMap<>(); // guarded by lock
+    private boolean flushScheduled = false; // guarded by lock
+    
+    // Batches run one at a time, so a file is never written by two of them at once
+    private final Object flushLock = new Object();
+    
+    // Writes are numbered so an older one never replaces a newer one on disk
+    private final AtomicLong writeCount = new AtomicLong();
+    private final Map<Path, FileState> files = new ConcurrentHashMap<>();
+    
+    private ConfigIoScheduler() {
+        AtomicInteger threads = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(MAX_CONCURRENT_WRITES,
+            runnable -> daemon(runnable, "EclipseCore Config Writer #" + threads.incrementAndGet()));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "EclipseCore Config Shutdown Flush"));
+    }
+    
+    public static ConfigIoScheduler get() {
+        return INSTANCE;
+    }
+    
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+    
+    /**
+     * Queue a file to be written. If the file is already queued, its content is replaced and
+     * the same future is returned.
+     *
+     * @param content writes the whole file; may run on any thread, so it must only use values
+     *                captured before this call
+     * @return completes when the file is on disk, exceptionally if writing failed
+     */
+    public CompletableFuture<Void> submit(Path path, ContentWriter content) {
+        return submitTask(path, target -> replace(target, content));
+    }
+    
+    /**
+     * Queue a task that does the I/O for a file. Like {@link #submit}, a task queued for a file
+     * that already has one waiting replaces it, so the task must write the newest state, not a
+     * change relative to the replaced task.
+     */
+    public CompletableFuture<Void> submitTask(Path path, FileTask task) {
+        Path target = path.toAbsolutePath().normalize();
+        long sequence = this.writeCount.incrementAndGet();
+        synchronized (this.lock) {
+            PendingWrite write = this.pending.get(target);
+            if (write != null) {
+                write.sequence = sequence;
+                write.task = task;
+                return write.future;
+            }
+            write = new PendingWrite(sequence, task);
+            this.pending.put(target, write);
+            if (!this.flushScheduled) {
+                this.flushScheduled = true;
+                this.timer.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            return write.future;
+        }
+    }
+    
+    /**
+     * Write a file on the calling thread. A queued write of the same file is dropped, its
+     * future completing with this one.
+     */
+    public void writeNow(Path path, ContentWriter content) throws IOException {
+        runNow(path, target -> replace(target, content));
+    }
+    
+    /**
+     * Run a task for a file on the calling thread, superseding a queued one like {@link #writeNow}.
+     */
+    public void runNow(Path path, FileTask task) throws IOException {
+        Path target = path.toAbsolutePath().normalize();
+        long sequence = this.writeCount.incrementAndGet();
+        PendingWrite superseded;
+        synchronized (this.lock) {
+            superseded = this.pending.remove(target);
+        }
+        
+        try {
+            run(target, sequence, task);
+        } catch (IOException | RuntimeException e) {
+            if (superseded != null) {
+                superseded.future.completeExceptionally(e);
+            }
+            throw e;
+        }
+        if (superseded != null) {
+            superseded.future.complete(null);
+        }
+    }
+    
+    /**
+     * Run a task for a file on the calling thread, once no write or task for the file is running.
+     * Unlike {@link #runNow}, queued work for the file is left queued, e.g. for reading a file
+     * that a pending write will still update.
+     */
+    public void runLocked(Path path, FileTask task) throws IOException {
+        Path target = path.toAbsolutePath().normalize();
+        FileState state = this.files.computeIfAbsent(target, key -> new FileState());
+        synchronized (state) {
+            task.run(target);
+        }
+    }
+    
+    /**
+     * Write everything queued now and wait for it to finish.
+     */
+    public void flush() {
+        synchronized (this.flushLock) {
+            Map<Path, PendingWrite> batch;
+            synchronized (this.lock) {
+                batch = new LinkedHashMap<>(this.pending);
+                this.pending.clear();
+                this.flushScheduled = false;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            
+            List<CompletableFuture<Void>> writes = new ArrayList<>(batch.size());
+            for (Map.Entry<Path, PendingWrite> entry : batch.entrySet()) {
+                Path target = entry.getKey();
+                PendingWrite write = entry.getValue();
+                writes.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        run(target, write.sequence, write.task);
+                        write.future.complete(null);
+                    } catch (IOException | RuntimeException e) {
+                        LOGGER.error("Failed to write config {}", target, e);
+                        write.future.completeExceptionally(e);
+                    }
+                }, this.writers));
+            }
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+            
+            LOGGER.debug("Wrote {} config file(s) in {} ms", batch.size(), (System.nanoTime() - start) / 1_000_000.0);
+        }
+    }
+    
+    private void run(Path target, long sequence, FileTask task) throws IOException {
+        FileState state = this.files.computeIfAbsent(target, key -> new FileState());
+        synchronized (state) {
+            if (sequence <= state.written) {
+                // A newer write got here first
+                return;
+            }
+            task.run(target);
+            state.written = sequence;
+        }
+    }
+    
+    /**
+     * Replace a file's content through a synced temporary sibling and an atomic move.
+     */
+    public static void replace(Path target, ContentWriter content) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE)) {
+            content.write(out);
+            out.flush();
+            channel.force(false);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    /**
+     * Writes the full content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Writer out) throws IOException;
+    }
+    
+    /**
+     * Does the I/O for a file, given its absolute path.
+     */
+    @FunctionalInterface
+    public interface FileTask {
+        void run(Path target) throws IOException;
+    }
+    
+    private static final class PendingWrite {
+        private long sequence;
+        private FileTask task;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        
+        PendingWrite(long sequence, FileTask task) {
+            this.sequence = sequence;
+            this.task = task;
+        }
+    }
+    
+    // Guarded by itself
+    private static final class FileState {
+        private long written;
+    }
+}
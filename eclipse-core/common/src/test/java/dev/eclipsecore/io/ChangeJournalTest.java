@@ -0,0 +1,136 @@
+package dev.eclipsecore.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChangeJournalTest {
+    
+    @TempDir
+    Path dir;
+    
+    private static Map<String, String> replay(Path path) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        new ChangeJournal(path).replay(values::put);
+        return values;
+    }
+    
+    @Test
+    void replaysRecordsInOrder() throws IOException {
+        Path path = dir.resolve("config.journal");
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.append(Map.of("a", "1"));
+        journal.append(Map.of("b", "\"é\"", "a", "2"));
+        
+        assertEquals(Map.of("a", "2", "b", "\"é\""), replay(path));
+        assertEquals(2, journal.records());
+        assertEquals(Files.size(path), journal.size());
+    }
+    
+    @Test
+    void dropsTornTail() throws IOException {
+        Path path = dir.resolve("config.journal");
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.append(Map.of("a", "1"));
+        long valid = Files.size(path);
+        journal.append(Map.of("a", "2"));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+        
+        ChangeJournal reopened = new ChangeJournal(path);
+        Map<String, String> values = new LinkedHashMap<>();
+        assertEquals(1, reopened.replay(values::put));
+        assertEquals(Map.of("a", "1"), values);
+        // The torn record is cut off the file
+        assertEquals(valid, Files.size(path));
+    }
+    
+    @Test
+    void stopsAtChecksumMismatch() throws IOException {
+        Path path = dir.resolve("config.journal");
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.append(Map.of("a", "1"));
+        long valid = Files.size(path);
+        journal.append(Map.of("b", "2"));
+        journal.append(Map.of("c", "3"));
+        
+        // Flip a payload bit of the second record; the third is dropped along with it
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[(int) valid + 12] ^= 1;
+        Files.write(path, bytes);
+        
+        assertEquals(Map.of("a", "1"), replay(path));
+        assertEquals(valid, Files.size(path));
+    }
+    
+    @Test
+    void stopsAtBadLength() throws IOException {
+        Path path = dir.resolve("config.journal");
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.append(Map.of("a", "1"));
+        long valid = Files.size(path);
+        
+        // A header claiming more bytes than the file holds
+        byte[] bytes = Files.readAllBytes(path);
+        byte[] garbage = {0x7F, 0, 0, 0, 0, 0, 0, 0, 1};
+        byte[] corrupt = Arrays.copyOf(bytes, bytes.length + garbage.length);
+        System.arraycopy(garbage, 0, corrupt, bytes.length, garbage.length);
+        Files.write(path, corrupt);
+        
+        assertEquals(Map.of("a", "1"), replay(path));
+        assertEquals(valid, Files.size(path));
+    }
+    
+    @Test
+    void appendsAfterTruncatedTail() throws IOException {
+        Path path = dir.resolve("config.journal");
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.append(Map.of("a", "1"));
+        journal.append(Map.of("b", "2"));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+        
+        ChangeJournal reopened = new ChangeJournal(path);
+        reopened.replay((key, value) -> {});
+        reopened.append(Map.of("c", "3"));
+        
+        assertEquals(Map.of("a", "1", "c", "3"), replay(path));
+    }
+    
+    @Test
+    void appendWithoutReplayWritesOverTornTail() throws IOException {
+        Path path = dir.resolve("config.journal");
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.append(Map.of("a", "1"));
+        journal.append(Map.of("b", "2"));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+        
+        // A fresh journal that was never replayed must not append after the torn bytes
+        ChangeJournal fresh = new ChangeJournal(path);
+        fresh.append(Map.of("c", "3"));
+        
+        assertEquals(Map.of("a", "1", "c", "3"), replay(path));
+        assertEquals(2, fresh.records());
+    }
+    
+    @Test
+    void clearEmptiesTheLog() throws IOException {
+        Path path = dir.resolve("config.journal");
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.append(Map.of("a", "1"));
+        journal.clear();
+        journal.append(Map.of("b", "2"));
+        
+        assertEquals(Map.of("b", "2"), replay(path));
+        assertEquals(1, journal.records());
+    }
+}
@@ -1,14 +1,18 @@
 package dev.eclipseui;
 
+import dev.eclipsecore.io.BulkConfigLoader;
 import dev.eclipseui.api.ConfigScreenBuilder;
 import dev.eclipseui.api.Theme;
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.gui.theme.ThemeRegistry;
 import dev.eclipseui.impl.ConfigDataImpl;
 import dev.eclipseui.impl.ConfigScreenBuilderImpl;
+import dev.eclipseui.impl.JsonConfigData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+
 /**
  * Main entry point for EclipseUI library.
  * 
@@ -22,12 +26,12 @@ import org.slf4j.LoggerFactory;
  *         .name(Component.literal("General"))
  *         .toggle(toggle -> toggle
  *             .name(Component.literal("Enable Feature"))
- *             .binding(() -> config.enableFeature, v -> config.enableFeature = v)
+ *             .bindingAsBoolean(() -> config.enableFeature, v -> config.enableFeature = v)
  *             .defaultValue(true)
  *         )
  *         .slider(slider -> slider
  *             .name(Component.literal("Volume"))
- *             .bindingInt(() -> config.volume, v -> config.volume = v)
+ *             .bindingAsInt(() -> config.volume, v -> config.volume = v)
  *             .range(0, 100, 1)
  *             .suffix("%")
  *         )
@@ -59,6 +63,23 @@ public final class EclipseUI {
         return ConfigDataImpl.builder();
     }
     
+    /**
+     * Create config data that saves option values to a JSON file.
+     * Register each value with it before calling {@code load()}.
+     */
+    public static JsonConfigData jsonConfig(Path path) {
+        return new JsonConfigData(path);
+    }
+    
+    /**
+     * Wait for every config load started with {@link JsonConfigData#loadAsync()}.
+     * EclipseUI does this once the client has started, on NeoForge and on Fabric with Fabric API
+     * installed; call it to use the values earlier, and always call it on Fabric without Fabric API.
+     */
+    public static void awaitConfigs() {
+        BulkConfigLoader.get().awaitAll();
+    }
+    
     /**
      * Get the ThemeData for a built-in theme.
      */
@@ -51,11 +51,41 @@ public interface CategoryBuilder {
      */
     CategoryBuilder textInput(Consumer<TextInputBuilder> builder);
     
+    /**
+     * Add a multi-line text area option.
+     */
+    CategoryBuilder textArea(Consumer<TextAreaBuilder> builder);
+    
+    /**
+     * Add a list editor for string entries.
+     */
+    CategoryBuilder stringList(Consumer<ListBuilder<String>> builder);
+    
+    /**
+     * Add a list editor for integer entries.
+     */
+    CategoryBuilder intList(Consumer<ListBuilder<Integer>> builder);
+    
+    /**
+     * Add a list editor for decimal entries.
+     */
+    CategoryBuilder doubleList(Consumer<ListBuilder<Double>> builder);
+    
+    /**
+     * Add a list editor for any entry type. A parser must be set.
+     */
+    <T> CategoryBuilder list(Consumer<ListBuilder<T>> builder);
+    
     /**
      * Add a dropdown/enum option.
      */
     <E extends Enum<E>> CategoryBuilder dropdown(Consumer<DropdownBuilder<E>> builder);
     
+    /**
+     * Add a searchable picker for large value sets, such as registry entries.
+     */
+    <T> CategoryBuilder picker(Consumer<PickerBuilder<T>> builder);
+    
     /**
      * Add a color picker option.
      */
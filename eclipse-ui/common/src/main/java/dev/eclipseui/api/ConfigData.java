@@ -1,5 +1,6 @@
 package dev.eclipseui.api;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -18,6 +19,22 @@ public interface ConfigData {
      */
     void save();
     
+    /**
+     * Save config values without blocking the caller. The values are read on the calling thread;
+     * implementations may write them later on another thread.
+     * The default implementation saves synchronously.
+     *
+     * @return completes when the values are saved, exceptionally if saving failed
+     */
+    default CompletableFuture<Void> saveAsync() {
+        try {
+            save();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
     /**
      * Reset all values to defaults.
      */
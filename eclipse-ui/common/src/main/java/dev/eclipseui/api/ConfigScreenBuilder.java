@@ -50,6 +50,11 @@ public interface ConfigScreenBuilder {
      */
     ConfigScreenBuilder onSave(Runnable callback);
     
+    /**
+     * Set callback for when the config data fails to save. Called on the client thread.
+     */
+    ConfigScreenBuilder onSaveError(Consumer<Throwable> callback);
+    
     /**
      * Set callback for when reset button is clicked.
      */
@@ -3,6 +3,8 @@ package dev.eclipseui.api.component;
 import net.minecraft.network.chat.Component;
 
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -33,7 +35,17 @@ public interface ColorPickerBuilder {
     /**
      * Bind to a getter and setter (color as ARGB int).
      */
-    ColorPickerBuilder binding(Supplier<Integer> getter, Consumer<Integer> setter);
+    ColorPickerBuilder bindingAsInt(IntSupplier getter, IntConsumer setter);
+    
+    /**
+     * Bind to a getter and setter (color as ARGB int).
+     *
+     * @deprecated boxes every value; use {@link #bindingAsInt}
+     */
+    @Deprecated
+    default ColorPickerBuilder binding(Supplier<Integer> getter, Consumer<Integer> setter) {
+        return bindingAsInt(getter::get, setter::accept);
+    }
     
     /**
      * Set the default color value.
@@ -66,7 +78,17 @@ public interface ColorPickerBuilder {
     /**
      * Set a callback for when the color changes.
      */
-    ColorPickerBuilder onChange(Consumer<Integer> callback);
+    ColorPickerBuilder onChangeAsInt(IntConsumer callback);
+    
+    /**
+     * Set a callback for when the color changes.
+     *
+     * @deprecated boxes every value; use {@link #onChangeAsInt}
+     */
+    @Deprecated
+    default ColorPickerBuilder onChange(Consumer<Integer> callback) {
+        return onChangeAsInt(callback != null ? callback::accept : null);
+    }
     
     /**
      * Show/hide the hex input field.
@@ -0,0 +1,88 @@
+package dev.eclipseui.api.component;
+
+import net.minecraft.network.chat.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Builder for list editor options.
+ * The list is edited as a working copy and written to the binding once, when the
+ * editor loses focus or the screen is saved or closed.
+ */
+public interface ListBuilder<T> {
+    
+    /**
+     * Set the option name.
+     */
+    ListBuilder<T> name(Component name);
+    
+    /**
+     * Set the option name using a translation key.
+     */
+    ListBuilder<T> name(String translationKey);
+    
+    /**
+     * Set an optional description/tooltip.
+     */
+    ListBuilder<T> description(Component description);
+    
+    /**
+     * Set description using a translation key.
+     */
+    ListBuilder<T> description(String translationKey);
+    
+    /**
+     * Bind to a getter and setter. The setter receives a new list.
+     */
+    ListBuilder<T> binding(Supplier<List<T>> getter, Consumer<List<T>> setter);
+    
+    /**
+     * Set the default value.
+     */
+    ListBuilder<T> defaultValue(List<T> defaultValue);
+    
+    /**
+     * Set how typed text is turned into an entry. Return null or throw to reject the input.
+     * Preset for string, int and double lists.
+     */
+    ListBuilder<T> parser(Function<String, T> parser);
+    
+    /**
+     * Set how entries are displayed. Defaults to {@code String.valueOf}.
+     */
+    ListBuilder<T> formatter(Function<T, String> formatter);
+    
+    /**
+     * Set a predicate new entries must pass.
+     */
+    ListBuilder<T> entryValidator(Predicate<T> validator);
+    
+    /**
+     * Set the number of entries shown at once. Defaults to 6.
+     */
+    ListBuilder<T> visibleEntries(int entries);
+    
+    /**
+     * Set placeholder text shown in the empty add-entry field.
+     */
+    ListBuilder<T> placeholder(Component placeholder);
+    
+    /**
+     * Set placeholder using a translation key.
+     */
+    ListBuilder<T> placeholder(String translationKey);
+    
+    /**
+     * Mark if this option requires a game restart.
+     */
+    ListBuilder<T> requiresRestart(boolean required);
+    
+    /**
+     * Set a callback for when the committed list changes.
+     */
+    ListBuilder<T> onChange(Consumer<List<T>> callback);
+}
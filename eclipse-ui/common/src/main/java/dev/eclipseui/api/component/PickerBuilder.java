@@ -0,0 +1,74 @@
+package dev.eclipseui.api.component;
+
+import net.minecraft.network.chat.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Builder for searchable picker options, for choosing from large value sets such as registries.
+ */
+public interface PickerBuilder<T> {
+    
+    /**
+     * Set the option name.
+     */
+    PickerBuilder<T> name(Component name);
+    
+    /**
+     * Set the option name using a translation key.
+     */
+    PickerBuilder<T> name(String translationKey);
+    
+    /**
+     * Set an optional description/tooltip.
+     */
+    PickerBuilder<T> description(Component description);
+    
+    /**
+     * Set description using a translation key.
+     */
+    PickerBuilder<T> description(String translationKey);
+    
+    /**
+     * Set the available values.
+     */
+    PickerBuilder<T> values(List<T> values);
+    
+    /**
+     * Set a supplier for the available values, called once when they are first needed.
+     */
+    PickerBuilder<T> values(Supplier<List<T>> values);
+    
+    /**
+     * Bind to a getter and setter.
+     */
+    PickerBuilder<T> binding(Supplier<T> getter, Consumer<T> setter);
+    
+    /**
+     * Set the default value.
+     */
+    PickerBuilder<T> defaultValue(T defaultValue);
+    
+    /**
+     * Set a custom formatter for values. Labels are formatted once and also used for searching.
+     */
+    PickerBuilder<T> formatter(Function<T, Component> formatter);
+    
+    /**
+     * Set the number of items shown at once in the open list. Defaults to 8.
+     */
+    PickerBuilder<T> visibleItems(int items);
+    
+    /**
+     * Mark if this option requires a game restart.
+     */
+    PickerBuilder<T> requiresRestart(boolean required);
+    
+    /**
+     * Set a callback for when the value changes.
+     */
+    PickerBuilder<T> onChange(Consumer<T> callback);
+}
@@ -1,9 +1,16 @@
 package dev.eclipseui.api.component;
 
+import dev.eclipseui.api.function.FloatConsumer;
+import dev.eclipseui.api.function.FloatSupplier;
 import net.minecraft.network.chat.Component;
 
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -54,17 +61,47 @@ public interface SliderBuilder {
     /**
      * Bind to a getter and setter for integer values.
      */
-    SliderBuilder bindingInt(Supplier<Integer> getter, Consumer<Integer> setter);
+    SliderBuilder bindingAsInt(IntSupplier getter, IntConsumer setter);
     
     /**
      * Bind to a getter and setter for double values.
      */
-    SliderBuilder bindingDouble(Supplier<Double> getter, Consumer<Double> setter);
+    SliderBuilder bindingAsDouble(DoubleSupplier getter, DoubleConsumer setter);
     
     /**
      * Bind to a getter and setter for float values.
      */
-    SliderBuilder bindingFloat(Supplier<Float> getter, Consumer<Float> setter);
+    SliderBuilder bindingAsFloat(FloatSupplier getter, FloatConsumer setter);
+    
+    /**
+     * Bind to a getter and setter for integer values.
+     *
+     * @deprecated boxes every value; use {@link #bindingAsInt}
+     */
+    @Deprecated
+    default SliderBuilder bindingInt(Supplier<Integer> getter, Consumer<Integer> setter) {
+        return bindingAsInt(getter::get, setter::accept);
+    }
+    
+    /**
+     * Bind to a getter and setter for double values.
+     *
+     * @deprecated boxes every value; use {@link #bindingAsDouble}
+     */
+    @Deprecated
+    default SliderBuilder bindingDouble(Supplier<Double> getter, Consumer<Double> setter) {
+        return bindingAsDouble(getter::get, setter::accept);
+    }
+    
+    /**
+     * Bind to a getter and setter for float values.
+     *
+     * @deprecated boxes every value; use {@link #bindingAsFloat}
+     */
+    @Deprecated
+    default SliderBuilder bindingFloat(Supplier<Float> getter, Consumer<Float> setter) {
+        return bindingAsFloat(getter::get, setter::accept);
+    }
     
     /**
      * Set the default value.
@@ -84,7 +121,17 @@ public interface SliderBuilder {
     /**
      * Set a custom value formatter for display.
      */
-    SliderBuilder formatter(Function<Double, Component> formatter);
+    SliderBuilder formatterAsDouble(DoubleFunction<Component> formatter);
+    
+    /**
+     * Set a custom value formatter for display.
+     *
+     * @deprecated boxes every value; use {@link #formatterAsDouble}
+     */
+    @Deprecated
+    default SliderBuilder formatter(Function<Double, Component> formatter) {
+        return formatterAsDouble(formatter != null ? formatter::apply : null);
+    }
     
     /**
      * Show the numeric value next to the slider.
@@ -104,5 +151,15 @@ public interface SliderBuilder {
     /**
      * Set a callback for when the value changes.
      */
-    SliderBuilder onChange(Consumer<Double> callback);
+    SliderBuilder onChangeAsDouble(DoubleConsumer callback);
+    
+    /**
+     * Set a callback for when the value changes.
+     *
+     * @deprecated boxes every value; use {@link #onChangeAsDouble}
+     */
+    @Deprecated
+    default SliderBuilder onChange(Consumer<Double> callback) {
+        return onChangeAsDouble(callback != null ? callback::accept : null);
+    }
 }
@@ -0,0 +1,89 @@
+package dev.eclipseui.api.component;
+
+import net.minecraft.network.chat.Component;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Builder for multi-line text area options.
+ * Edits are written to the binding when the text area loses focus, or on every edit with live updates.
+ */
+public interface TextAreaBuilder {
+    
+    /**
+     * Set the option name.
+     */
+    TextAreaBuilder name(Component name);
+    
+    /**
+     * Set the option name using a translation key.
+     */
+    TextAreaBuilder name(String translationKey);
+    
+    /**
+     * Set an optional description/tooltip.
+     */
+    TextAreaBuilder description(Component description);
+    
+    /**
+     * Set description using a translation key.
+     */
+    TextAreaBuilder description(String translationKey);
+    
+    /**
+     * Bind to a getter and setter.
+     */
+    TextAreaBuilder binding(Supplier<String> getter, Consumer<String> setter);
+    
+    /**
+     * Set the default value.
+     */
+    TextAreaBuilder defaultValue(String defaultValue);
+    
+    /**
+     * Set placeholder text shown when empty.
+     */
+    TextAreaBuilder placeholder(Component placeholder);
+    
+    /**
+     * Set placeholder using a translation key.
+     */
+    TextAreaBuilder placeholder(String translationKey);
+    
+    /**
+     * Set the number of lines shown at once. Defaults to 6.
+     */
+    TextAreaBuilder visibleLines(int lines);
+    
+    /**
+     * Set maximum input length. Defaults to 65536.
+     */
+    TextAreaBuilder maxLength(int maxLength);
+    
+    /**
+     * Set a validation predicate.
+     */
+    TextAreaBuilder validator(Predicate<String> validator);
+    
+    /**
+     * Enable/disable live updates, writing the full text to the binding on every edit.
+     */
+    TextAreaBuilder liveUpdate(boolean enabled);
+    
+    /**
+     * Mark if this option requires a game restart.
+     */
+    TextAreaBuilder requiresRestart(boolean required);
+    
+    /**
+     * Set a callback for when the value changes.
+     */
+    TextAreaBuilder onChange(Consumer<String> callback);
+    
+    /**
+     * Set error message shown when validation fails.
+     */
+    TextAreaBuilder errorMessage(Component message);
+}
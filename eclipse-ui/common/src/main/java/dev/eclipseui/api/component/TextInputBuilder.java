@@ -52,7 +52,8 @@ public interface TextInputBuilder {
     TextInputBuilder placeholder(String translationKey);
     
     /**
-     * Set maximum input length.
+     * Set maximum input length. Defaults to 256; long limits (tens of thousands of
+     * characters) are fine, as editing and scrolling don't re-measure the whole text.
      */
     TextInputBuilder maxLength(int maxLength);
     
@@ -1,7 +1,9 @@
 package dev.eclipseui.api.component;
 
+import dev.eclipseui.api.function.BooleanConsumer;
 import net.minecraft.network.chat.Component;
 
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -33,7 +35,17 @@ public interface ToggleBuilder {
     /**
      * Bind to a getter and setter.
      */
-    ToggleBuilder binding(Supplier<Boolean> getter, Consumer<Boolean> setter);
+    ToggleBuilder bindingAsBoolean(BooleanSupplier getter, BooleanConsumer setter);
+    
+    /**
+     * Bind to a getter and setter.
+     *
+     * @deprecated boxes every value; use {@link #bindingAsBoolean}
+     */
+    @Deprecated
+    default ToggleBuilder binding(Supplier<Boolean> getter, Consumer<Boolean> setter) {
+        return bindingAsBoolean(getter::get, setter::accept);
+    }
     
     /**
      * Set the default value.
@@ -63,5 +75,15 @@ public interface ToggleBuilder {
     /**
      * Set a callback for when the value changes.
      */
-    ToggleBuilder onChange(Consumer<Boolean> callback);
+    ToggleBuilder onChangeAsBoolean(BooleanConsumer callback);
+    
+    /**
+     * Set a callback for when the value changes.
+     *
+     * @deprecated boxes every value; use {@link #onChangeAsBoolean}
+     */
+    @Deprecated
+    default ToggleBuilder onChange(Consumer<Boolean> callback) {
+        return onChangeAsBoolean(callback != null ? callback::accept : null);
+    }
 }
@@ -0,0 +1,10 @@
+package dev.eclipseui.api.function;
+
+/**
+ * A {@link java.util.function.Consumer} of {@code boolean} values, without boxing.
+ */
+@FunctionalInterface
+public interface BooleanConsumer {
+    
+    void accept(boolean value);
+}
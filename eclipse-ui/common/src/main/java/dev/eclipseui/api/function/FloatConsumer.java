@@ -0,0 +1,10 @@
+package dev.eclipseui.api.function;
+
+/**
+ * A {@link java.util.function.Consumer} of {@code float} values, without boxing.
+ */
+@FunctionalInterface
+public interface FloatConsumer {
+    
+    void accept(float value);
+}
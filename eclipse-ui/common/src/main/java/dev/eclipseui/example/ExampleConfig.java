@@ -2,6 +2,8 @@ package dev.eclipseui.example;
 
 import dev.eclipseui.api.Theme;
 
+import java.util.List;
+
 /**
  * Example configuration class demonstrating all supported option types.
  * This is a simple POJO that holds config values - you would typically
@@ -56,6 +58,9 @@ public class ExampleConfig {
     public int accentColor = 0xFFFF5555;  // Red
     public double uiScale = 1.0;
     public String customTitle = "My Mod";
+    public String motdTemplate = "Welcome to {server}!\nHave fun, {player}.";
+    public String preferredLocale = "en-US";
+    public List<String> hiddenBlocks = List.of("minecraft:barrier", "minecraft:structure_void");
     public HudPosition hudPosition = HudPosition.TOP_LEFT;
 
     // ========================================
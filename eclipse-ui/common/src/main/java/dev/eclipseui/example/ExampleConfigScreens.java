@@ -8,6 +8,10 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Factory class for creating example config screens demonstrating all themes.
  *
@@ -49,14 +53,14 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Enable Mod"))
                     .description(Component.literal("Master toggle for all mod features"))
-                    .binding(() -> config.enableMod, v -> config.enableMod = v)
+                    .bindingAsBoolean(() -> config.enableMod, v -> config.enableMod = v)
                     .defaultValue(true)
                 )
 
                 .toggle(t -> t
                     .name(Component.literal("Show Notifications"))
                     .description(Component.literal("Display popup notifications for events"))
-                    .binding(() -> config.showNotifications, v -> config.showNotifications = v)
+                    .bindingAsBoolean(() -> config.showNotifications, v -> config.showNotifications = v)
                     .defaultValue(true)
                 )
 
@@ -65,14 +69,14 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Debug Mode"))
                     .description(Component.literal("Enable debug logging and overlays"))
-                    .binding(() -> config.debugMode, v -> config.debugMode = v)
+                    .bindingAsBoolean(() -> config.debugMode, v -> config.debugMode = v)
                     .defaultValue(false)
                 )
 
                 .toggle(t -> t
                     .name(Component.literal("Experimental Features"))
                     .description(Component.literal("Enable unstable experimental features\n§cMay cause issues!"))
-                    .binding(() -> config.experimentalFeatures, v -> config.experimentalFeatures = v)
+                    .bindingAsBoolean(() -> config.experimentalFeatures, v -> config.experimentalFeatures = v)
                     .defaultValue(false)
                     .requiresRestart(true)
                 )
@@ -97,7 +101,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Render Distance"))
                     .description(Component.literal("How far to render the world (in chunks)"))
                     .range(2, 32, 1)
-                    .bindingInt(() -> config.renderDistance, v -> config.renderDistance = v)
+                    .bindingAsInt(() -> config.renderDistance, v -> config.renderDistance = v)
                     .defaultValue(12)
                     .suffix(" chunks")
                 )
@@ -106,7 +110,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Brightness"))
                     .description(Component.literal("Screen brightness level"))
                     .range(0.0, 2.0, 0.1)
-                    .bindingDouble(() -> config.brightness, v -> config.brightness = v)
+                    .bindingAsDouble(() -> config.brightness, v -> config.brightness = v)
                     .defaultValue(1.0)
                     .percentageFormat()
                 )
@@ -117,14 +121,14 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Enable Shaders"))
                     .description(Component.literal("Use shader-based rendering effects"))
-                    .binding(() -> config.enableShaders, v -> config.enableShaders = v)
+                    .bindingAsBoolean(() -> config.enableShaders, v -> config.enableShaders = v)
                     .defaultValue(false)
                 )
 
                 .toggle(t -> t
                     .name(Component.literal("Fancy Particles"))
                     .description(Component.literal("Use enhanced particle effects"))
-                    .binding(() -> config.fancyParticles, v -> config.fancyParticles = v)
+                    .bindingAsBoolean(() -> config.fancyParticles, v -> config.fancyParticles = v)
                     .defaultValue(true)
                 )
 
@@ -132,7 +136,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Max FPS"))
                     .description(Component.literal("Frame rate limit (0 = unlimited)"))
                     .range(0, 240, 10)
-                    .bindingInt(() -> config.maxFps, v -> config.maxFps = v)
+                    .bindingAsInt(() -> config.maxFps, v -> config.maxFps = v)
                     .defaultValue(60)
                     .suffix(" FPS")
                 )
@@ -147,7 +151,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Master Volume"))
                     .description(Component.literal("Overall volume level"))
                     .range(0, 100, 5)
-                    .bindingInt(() -> config.masterVolume, v -> config.masterVolume = v)
+                    .bindingAsInt(() -> config.masterVolume, v -> config.masterVolume = v)
                     .defaultValue(100)
                     .suffix("%")
                 )
@@ -156,7 +160,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Music Volume"))
                     .description(Component.literal("Background music volume"))
                     .range(0, 100, 5)
-                    .bindingInt(() -> config.musicVolume, v -> config.musicVolume = v)
+                    .bindingAsInt(() -> config.musicVolume, v -> config.musicVolume = v)
                     .defaultValue(80)
                     .suffix("%")
                 )
@@ -165,7 +169,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Sound Effects"))
                     .description(Component.literal("Sound effects volume"))
                     .range(0, 100, 5)
-                    .bindingInt(() -> config.sfxVolume, v -> config.sfxVolume = v)
+                    .bindingAsInt(() -> config.sfxVolume, v -> config.sfxVolume = v)
                     .defaultValue(100)
                     .suffix("%")
                 )
@@ -183,7 +187,7 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Mute When Unfocused"))
                     .description(Component.literal("Mute audio when game loses focus"))
-                    .binding(() -> config.muteWhenUnfocused, v -> config.muteWhenUnfocused = v)
+                    .bindingAsBoolean(() -> config.muteWhenUnfocused, v -> config.muteWhenUnfocused = v)
                     .defaultValue(false)
                 )
             )
@@ -235,7 +239,7 @@ public class ExampleConfigScreens {
                 .colorPicker(c -> c
                     .name(Component.literal("Primary Color"))
                     .description(Component.literal("Main theme color used throughout the UI"))
-                    .binding(() -> config.primaryColor, v -> config.primaryColor = v)
+                    .bindingAsInt(() -> config.primaryColor, v -> config.primaryColor = v)
                     .defaultValue(0xFF5555FF)
                     .allowAlpha(false)
                 )
@@ -243,7 +247,7 @@ public class ExampleConfigScreens {
                 .colorPicker(c -> c
                     .name(Component.literal("Secondary Color"))
                     .description(Component.literal("Accent color for highlights"))
-                    .binding(() -> config.secondaryColor, v -> config.secondaryColor = v)
+                    .bindingAsInt(() -> config.secondaryColor, v -> config.secondaryColor = v)
                     .defaultValue(0xFF55FF55)
                     .allowAlpha(false)
                 )
@@ -251,7 +255,7 @@ public class ExampleConfigScreens {
                 .colorPicker(c -> c
                     .name(Component.literal("Accent Color"))
                     .description(Component.literal("Color for important elements"))
-                    .binding(() -> config.accentColor, v -> config.accentColor = v)
+                    .bindingAsInt(() -> config.accentColor, v -> config.accentColor = v)
                     .defaultValue(0xFFFF5555)
                     .allowAlpha(true)
                     .presets(
@@ -268,7 +272,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("UI Scale"))
                     .description(Component.literal("Scale factor for UI elements"))
                     .range(0.5, 2.0, 0.25)
-                    .bindingDouble(() -> config.uiScale, v -> config.uiScale = v)
+                    .bindingAsDouble(() -> config.uiScale, v -> config.uiScale = v)
                     .defaultValue(1.0)
                     .percentageFormat()
                 )
@@ -301,14 +305,14 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Basic Toggle"))
                     .description(Component.literal("A simple on/off toggle switch"))
-                    .binding(() -> config.enableMod, v -> config.enableMod = v)
+                    .bindingAsBoolean(() -> config.enableMod, v -> config.enableMod = v)
                     .defaultValue(true)
                 )
 
                 .toggle(t -> t
                     .name(Component.literal("Custom Labels Toggle"))
                     .description(Component.literal("Toggle with custom ON/OFF text"))
-                    .binding(() -> config.showNotifications, v -> config.showNotifications = v)
+                    .bindingAsBoolean(() -> config.showNotifications, v -> config.showNotifications = v)
                     .defaultValue(true)
                     .onText(Component.literal("Enabled"))
                     .offText(Component.literal("Disabled"))
@@ -317,7 +321,7 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Restart Required"))
                     .description(Component.literal("This toggle requires a game restart to take effect"))
-                    .binding(() -> config.experimentalFeatures, v -> config.experimentalFeatures = v)
+                    .bindingAsBoolean(() -> config.experimentalFeatures, v -> config.experimentalFeatures = v)
                     .defaultValue(false)
                     .requiresRestart(true)
                 )
@@ -329,7 +333,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Integer Slider"))
                     .description(Component.literal("Slider for whole numbers"))
                     .range(0, 100, 1)
-                    .bindingInt(() -> config.masterVolume, v -> config.masterVolume = v)
+                    .bindingAsInt(() -> config.masterVolume, v -> config.masterVolume = v)
                     .defaultValue(100)
                     .suffix("%")
                 )
@@ -338,7 +342,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Float Slider"))
                     .description(Component.literal("Slider with decimal values"))
                     .range(0.5, 2.0, 0.1)
-                    .bindingDouble(() -> config.movementSpeed, v -> config.movementSpeed = v)
+                    .bindingAsDouble(() -> config.movementSpeed, v -> config.movementSpeed = v)
                     .defaultValue(1.0)
                     .suffix("x")
                 )
@@ -347,7 +351,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Percentage Slider"))
                     .description(Component.literal("Slider formatted as percentage"))
                     .range(0.0, 2.0, 0.1)
-                    .bindingDouble(() -> config.brightness, v -> config.brightness = v)
+                    .bindingAsDouble(() -> config.brightness, v -> config.brightness = v)
                     .defaultValue(1.0)
                     .percentageFormat()
                 )
@@ -356,7 +360,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Large Range Slider"))
                     .description(Component.literal("Slider with large step values"))
                     .range(0, 240, 10)
-                    .bindingInt(() -> config.maxFps, v -> config.maxFps = v)
+                    .bindingAsInt(() -> config.maxFps, v -> config.maxFps = v)
                     .defaultValue(60)
                     .suffix(" FPS")
                 )
@@ -401,13 +405,43 @@ public class ExampleConfigScreens {
                     .maxLength(128)
                 )
 
+                .textArea(t -> t
+                    .name(Component.literal("Text Area"))
+                    .description(Component.literal("Multi-line text, e.g. a message template"))
+                    .binding(() -> config.motdTemplate, v -> config.motdTemplate = v)
+                    .defaultValue("Welcome to {server}!\nHave fun, {player}.")
+                    .visibleLines(4)
+                )
+
+                .stringList(l -> l
+                    .name(Component.literal("List Editor"))
+                    .description(Component.literal("Add entries below; paste several separated by commas or lines"))
+                    .binding(() -> config.hiddenBlocks, v -> config.hiddenBlocks = v)
+                    .defaultValue(List.of("minecraft:barrier", "minecraft:structure_void"))
+                    .entryValidator(id -> id.matches("[a-z0-9_.-]+:[a-z0-9_./-]+"))
+                    .placeholder(Component.literal("namespace:block"))
+                    .visibleEntries(5)
+                )
+
+                .<String>picker(p -> p
+                    .name(Component.literal("Searchable Picker"))
+                    .description(Component.literal("Pick from about a thousand locales; type to filter"))
+                    .values(() -> Arrays.stream(Locale.getAvailableLocales())
+                        .map(Locale::toLanguageTag)
+                        .distinct()
+                        .sorted()
+                        .toList())
+                    .binding(() -> config.preferredLocale, v -> config.preferredLocale = v)
+                    .defaultValue("en-US")
+                )
+
                 .separator()
                 .label(Component.literal("§c§lColor Picker Widgets"))
 
                 .colorPicker(c -> c
                     .name(Component.literal("RGB Color Picker"))
                     .description(Component.literal("Color picker without alpha"))
-                    .binding(() -> config.primaryColor, v -> config.primaryColor = v)
+                    .bindingAsInt(() -> config.primaryColor, v -> config.primaryColor = v)
                     .defaultValue(0xFF5555FF)
                     .allowAlpha(false)
                 )
@@ -415,7 +449,7 @@ public class ExampleConfigScreens {
                 .colorPicker(c -> c
                     .name(Component.literal("RGBA Color Picker"))
                     .description(Component.literal("Color picker with alpha/transparency"))
-                    .binding(() -> config.accentColor, v -> config.accentColor = v)
+                    .bindingAsInt(() -> config.accentColor, v -> config.accentColor = v)
                     .defaultValue(0x80FF5555)
                     .allowAlpha(true)
                 )
@@ -423,7 +457,7 @@ public class ExampleConfigScreens {
                 .colorPicker(c -> c
                     .name(Component.literal("With Presets"))
                     .description(Component.literal("Color picker with preset colors"))
-                    .binding(() -> config.secondaryColor, v -> config.secondaryColor = v)
+                    .bindingAsInt(() -> config.secondaryColor, v -> config.secondaryColor = v)
                     .defaultValue(0xFF55FF55)
                     .allowAlpha(false)
                     .presets(
@@ -451,7 +485,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Movement Speed"))
                     .description(Component.literal("Player movement speed multiplier"))
                     .range(0.5, 2.0, 0.1)
-                    .bindingDouble(() -> config.movementSpeed, v -> config.movementSpeed = v)
+                    .bindingAsDouble(() -> config.movementSpeed, v -> config.movementSpeed = v)
                     .defaultValue(1.0)
                     .percentageFormat()
                 )
@@ -459,7 +493,7 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Enable PvP"))
                     .description(Component.literal("Allow player vs player combat"))
-                    .binding(() -> config.enablePvp, v -> config.enablePvp = v)
+                    .bindingAsBoolean(() -> config.enablePvp, v -> config.enablePvp = v)
                     .defaultValue(true)
                 )
 
@@ -469,7 +503,7 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Enable Auto-Save"))
                     .description(Component.literal("Automatically save the game periodically"))
-                    .binding(() -> config.autoSave, v -> config.autoSave = v)
+                    .bindingAsBoolean(() -> config.autoSave, v -> config.autoSave = v)
                     .defaultValue(true)
                 )
 
@@ -477,7 +511,7 @@ public class ExampleConfigScreens {
                     .name(Component.literal("Auto-Save Interval"))
                     .description(Component.literal("Minutes between auto-saves"))
                     .range(1, 30, 1)
-                    .bindingInt(() -> config.autoSaveInterval, v -> config.autoSaveInterval = v)
+                    .bindingAsInt(() -> config.autoSaveInterval, v -> config.autoSaveInterval = v)
                     .defaultValue(5)
                     .suffix(" min")
                 )
@@ -485,7 +519,7 @@ public class ExampleConfigScreens {
                 .toggle(t -> t
                     .name(Component.literal("Show Tutorials"))
                     .description(Component.literal("Display tutorial popups for new features"))
-                    .binding(() -> config.showTutorials, v -> config.showTutorials = v)
+                    .bindingAsBoolean(() -> config.showTutorials, v -> config.showTutorials = v)
                     .defaultValue(true)
                 )
             )
@@ -2,6 +2,7 @@ package dev.eclipseui.gui.screen;
 
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.gui.theme.Colors;
+import dev.eclipseui.gui.widget.AbstractWidget;
 import dev.eclipseui.util.MinecraftScreenCompat;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
@@ -12,8 +13,8 @@ import net.minecraft.client.input.MouseButtonEvent;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.Mth;
 
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 
 public class ColorPickerEditScreen extends Screen {
 
@@ -26,6 +27,10 @@ public class ColorPickerEditScreen extends Screen {
     private static final float INV_255 = 1f / 255f;
     private static final int INPUT_HEIGHT = 18;
     private static final int INPUT_ROW_STEP = 30;
+    // Hue strip colors at 0, 60, ..., 360 degrees
+    private static final int[] HUE_STOPS = {
+        0xFFFF0000, 0xFFFFFF00, 0xFF00FF00, 0xFF00FFFF, 0xFF0000FF, 0xFFFF00FF, 0xFFFF0000
+    };
 
     private final Screen parent;
     private final ThemeData theme;
@@ -34,8 +39,8 @@ public class ColorPickerEditScreen extends Screen {
     private final boolean showHexInput;
     private final int defaultColor;
     private final int[] presets;
-    private final Supplier<Integer> getter;
-    private final Consumer<Integer> setter;
+    private final IntSupplier getter;
+    private final IntConsumer setter;
 
     private int originalColor;
     private int currentColor;
@@ -56,6 +61,13 @@ public class ColorPickerEditScreen extends Screen {
 
     private int openTicks;
 
+    // SV base color, only recomputed when the hue moves
+    private float cachedBaseHue = Float.NaN;
+    private int cachedBaseColor;
+
+    // Layout once the open animation has finished; reset on init (i.e. resize)
+    private PanelLayout settledLayout;
+
     public ColorPickerEditScreen(
         Screen parent,
         ThemeData theme,
@@ -64,8 +76,8 @@ public class ColorPickerEditScreen extends Screen {
         boolean showHexInput,
         int defaultColor,
         int[] presets,
-        Supplier<Integer> getter,
-        Consumer<Integer> setter
+        IntSupplier getter,
+        IntConsumer setter
     ) {
         super(Component.translatable("eclipseui.colorpicker.title"));
         this.parent = parent;
@@ -82,7 +94,8 @@ public class ColorPickerEditScreen extends Screen {
     @Override
     protected void init() {
         super.init();
-        this.originalColor = sanitizeColor(getter.get());
+        this.settledLayout = null;
+        this.originalColor = sanitizeColor(getter.getAsInt());
         this.currentColor = this.originalColor;
         updateHSVFromColor(this.currentColor);
         syncInputsFromColor();
@@ -164,21 +177,16 @@ public class ColorPickerEditScreen extends Screen {
     }
 
     private void renderSVArea(GuiGraphicsExtractor graphics, int x, int y, int size) {
-        int[] baseRgb = hsvToRgb(hue, 1f, 1f);
-        int baseColor = Colors.rgb(baseRgb[0], baseRgb[1], baseRgb[2]);
-        graphics.fill(x, y, x + size, y + size, baseColor);
-
-        for (int ix = 0; ix < size; ix++) {
-            int alpha = 255 - (ix * 255 / size);
-            int overlay = (alpha << 24) | 0xFFFFFF;
-            graphics.fill(x + ix, y, x + ix + 1, y + size, overlay);
+        if (hue != cachedBaseHue) {
+            int[] baseRgb = hsvToRgb(hue, 1f, 1f);
+            cachedBaseColor = Colors.rgb(baseRgb[0], baseRgb[1], baseRgb[2]);
+            cachedBaseHue = hue;
         }
+        graphics.fill(x, y, x + size, y + size, cachedBaseColor);
 
-        for (int iy = 0; iy < size; iy++) {
-            int alpha = iy * 255 / size;
-            int overlay = (alpha << 24);
-            graphics.fill(x, y + iy, x + size, y + iy + 1, overlay);
-        }
+        // Saturation: white fading out to the right, then value: black fading in downwards
+        AbstractWidget.fillGradientHorizontal(graphics, x, y, size, size, 0xFFFFFFFF, 0x00FFFFFF);
+        AbstractWidget.fillGradientVertical(graphics, x, y, size, size, 0x00000000, 0xFF000000);
 
         drawRect(graphics, x, y, size, size, theme.buttonBorder());
 
@@ -188,10 +196,11 @@ public class ColorPickerEditScreen extends Screen {
     }
 
     private void renderHueSlider(GuiGraphicsExtractor graphics, int x, int y, int width, int height) {
-        for (int iy = 0; iy < height; iy++) {
-            float h = (iy / (float) height) * 360f;
-            int[] rgb = hsvToRgb(h, 1f, 1f);
-            graphics.fill(x, y + iy, x + width, y + iy + 1, Colors.rgb(rgb[0], rgb[1], rgb[2]));
+        // Hue is linear in RGB between the six primary/secondary stops, so one quad per segment is exact
+        for (int i = 0; i < HUE_STOPS.length - 1; i++) {
+            int y0 = y + (height * i) / (HUE_STOPS.length - 1);
+            int y1 = y + (height * (i + 1)) / (HUE_STOPS.length - 1);
+            AbstractWidget.fillGradientVertical(graphics, x, y0, width, y1 - y0, HUE_STOPS[i], HUE_STOPS[i + 1]);
         }
         drawRect(graphics, x, y, width, height, theme.buttonBorder());
 
@@ -201,10 +210,7 @@ public class ColorPickerEditScreen extends Screen {
 
     private void renderAlphaSlider(GuiGraphicsExtractor graphics, int x, int y, int width, int height) {
         int rgbOnly = currentColor & 0x00FFFFFF;
-        for (int iy = 0; iy < height; iy++) {
-            int alpha = 255 - (iy * 255 / height);
-            graphics.fill(x, y + iy, x + width, y + iy + 1, (alpha << 24) | rgbOnly);
-        }
+        AbstractWidget.fillGradientVertical(graphics, x, y, width, height, 0xFF000000 | rgbOnly, rgbOnly);
 
         drawRect(graphics, x, y, width, height, theme.buttonBorder());
 
@@ -635,6 +641,16 @@ public class ColorPickerEditScreen extends Screen {
     }
 
     private PanelLayout computeLayout(float eased) {
+        if (eased >= 1f) {
+            if (settledLayout == null) {
+                settledLayout = buildLayout(1f);
+            }
+            return settledLayout;
+        }
+        return buildLayout(eased);
+    }
+
+    private PanelLayout buildLayout(float eased) {
         int panelMargin = 12;
         int availableWidth = Math.max(220, this.width - panelMargin * 2);
         int availableHeight = Math.max(170, this.height - panelMargin * 2);
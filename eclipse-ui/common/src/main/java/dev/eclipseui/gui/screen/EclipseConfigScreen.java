@@ -1,11 +1,14 @@
 package dev.eclipseui.gui.screen;
 
+import dev.eclipseui.EclipseUI;
 import dev.eclipseui.api.ConfigData;
 import dev.eclipseui.api.Theme;
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.gui.theme.ThemeRegistry;
 import dev.eclipseui.gui.widget.*;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.SearchIndex;
+import dev.eclipseui.util.TextLayoutCache;
 import dev.eclipseui.util.MinecraftScreenCompat;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
@@ -20,6 +23,10 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
 
 /**
  * Main configuration screen for EclipseUI.
@@ -35,6 +42,15 @@ public class EclipseConfigScreen extends Screen {
     private final @Nullable Runnable onSave;
     private final @Nullable Runnable onReset;
     private final @Nullable Runnable onClose;
+    private final @Nullable Consumer<Throwable> onSaveError;
+    
+    // Latest save of the config data; writing may still be in progress
+    private CompletableFuture<Void> lastSave = CompletableFuture.completedFuture(null);
+    
+    // Edits of every category, written to the bindings on save
+    private final EditBuffer edits = new EditBuffer();
+    // Defaults were staged by a reset; the config data is marked dirty once they are applied
+    private boolean defaultsStaged = false;
     
     // Widgets
     private CategoryListWidget categoryList;
@@ -42,6 +58,7 @@ public class EclipseConfigScreen extends Screen {
     private FlatButtonWidget saveButton;
     private FlatButtonWidget resetButton;
     private FlatButtonWidget doneButton;
+    private SearchBoxWidget searchBox;
     
     // Layout
     private static final int SIDEBAR_WIDTH = 120;
@@ -50,9 +67,23 @@ public class EclipseConfigScreen extends Screen {
     private static final int PADDING = 8;
     private static final int HEADER_HEIGHT = 30;
     private static final int FOOTER_HEIGHT = 40;
+    private static final int SEARCH_WIDTH = 140;
+    private static final int SEARCH_HEIGHT = 16;
+    private static final int MAX_SEARCH_RESULTS = 8;
     
     private int currentCategory = 0;
     
+    // Search over the options of every category, built on the first query.
+    // Documents are numbered in category order; these map a document back to its row.
+    private @Nullable SearchIndex searchIndex;
+    private int[] searchCategories = new int[0];
+    private int[] searchRows = new int[0];
+    private int[] searchHits = new int[0];
+    
+    // Time-to-first-frame, logged at debug level
+    private final long createdAtNanos = System.nanoTime();
+    private boolean firstFrameLogged = false;
+    
     public EclipseConfigScreen(
         Component title,
         @Nullable Screen parent,
@@ -63,7 +94,8 @@ public class EclipseConfigScreen extends Screen {
         boolean showResetButton,
         @Nullable Runnable onSave,
         @Nullable Runnable onReset,
-        @Nullable Runnable onClose
+        @Nullable Runnable onClose,
+        @Nullable Consumer<Throwable> onSaveError
     ) {
         super(title);
         this.parent = parent;
@@ -74,6 +106,7 @@ public class EclipseConfigScreen extends Screen {
         this.onSave = onSave;
         this.onReset = onReset;
         this.onClose = onClose;
+        this.onSaveError = onSaveError;
     }
     
     public void addCategory(CategoryData category) {
@@ -84,6 +117,10 @@ public class EclipseConfigScreen extends Screen {
     protected void init() {
         super.init();
         
+        // Sizes or font metrics may have changed, so drop cached text layouts and recorded widget draw calls
+        TextLayoutCache.invalidate();
+        AbstractWidget.invalidateAllRetained();
+        
         // Calculate layout dimensions
         int contentTop = HEADER_HEIGHT;
         int contentBottom = this.height - FOOTER_HEIGHT;
@@ -101,13 +138,20 @@ public class EclipseConfigScreen extends Screen {
         
         categoryList.setOnCategorySelected(this::onCategorySelected);
         
-        // Create option list
+        // Create option list. The old one (on resize, or when returning from a child screen)
+        // hands back its rows first, keeping typed text, so the new list binds them afresh.
+        if (optionList != null) {
+            optionList.commitPendingEdits();
+            optionList.clearOptions();
+        }
         int optionListX = SIDEBAR_WIDTH + PADDING;
         int optionListWidth = this.width - SIDEBAR_WIDTH - PADDING * 2;
         optionList = new OptionListWidget(
             new Dim2i(optionListX, contentTop, optionListWidth, contentHeight),
             theme
         );
+        optionList.setHostScreen(this);
+        optionList.setEditBuffer(edits);
         
         // Populate initial category
         if (!categories.isEmpty()) {
@@ -115,6 +159,17 @@ public class EclipseConfigScreen extends Screen {
             categoryList.setSelectedIndex(currentCategory);
         }
         
+        // Create search box, keeping the query across resizes
+        String query = searchBox != null ? searchBox.getQuery() : "";
+        searchBox = new SearchBoxWidget(
+            new Dim2i(this.width - PADDING - SEARCH_WIDTH, (HEADER_HEIGHT - SEARCH_HEIGHT) / 2, SEARCH_WIDTH, SEARCH_HEIGHT),
+            theme
+        );
+        searchBox.placeholder(Component.translatable("eclipseui.search.placeholder"))
+            .onQueryChanged(this::updateSearch)
+            .onResultPicked(this::jumpToSearchResult);
+        searchBox.setQuery(query);
+        
         // Create footer buttons
         int buttonY = this.height - FOOTER_HEIGHT + (FOOTER_HEIGHT - BUTTON_HEIGHT) / 2;
         int buttonSpacing = 8;
@@ -151,6 +206,28 @@ public class EclipseConfigScreen extends Screen {
         }
     }
     
+    @Override
+    public void tick() {
+        super.tick();
+        
+        // Pre-warm the neighbouring categories, at most one per tick
+        if (!prewarmCategory(currentCategory + 1)) {
+            prewarmCategory(currentCategory - 1);
+        }
+    }
+    
+    private boolean prewarmCategory(int index) {
+        if (index < 0 || index >= categories.size()) {
+            return false;
+        }
+        CategoryData category = categories.get(index);
+        if (category.isMaterialized()) {
+            return false;
+        }
+        category.options();
+        return true;
+    }
+    
     private void onCategorySelected(int index) {
         if (index >= 0 && index < categories.size()) {
             currentCategory = index;
@@ -163,38 +240,192 @@ public class EclipseConfigScreen extends Screen {
         
         if (categoryIndex >= 0 && categoryIndex < categories.size()) {
             CategoryData category = categories.get(categoryIndex);
-            for (OptionWidget option : category.options()) {
-                option.setHostScreen(this);
+            for (OptionDescriptor<?> option : category.options()) {
                 optionList.addOption(option);
             }
         }
+        
+        // Keep filtering by the search query when switching categories
+        if (searchBox != null) {
+            optionList.setFilter(searchBox.getQuery());
+        }
+    }
+    
+    private SearchIndex getSearchIndex() {
+        if (searchIndex != null) {
+            return searchIndex;
+        }
+        long start = System.nanoTime();
+        
+        int count = 0;
+        for (CategoryData category : categories) {
+            count += category.options().size();
+        }
+        searchCategories = new int[count];
+        searchRows = new int[count];
+        
+        // Names weigh most, then the category name, then the description
+        SearchIndex.Builder builder = SearchIndex.builder();
+        int document = 0;
+        for (int c = 0; c < categories.size(); c++) {
+            CategoryData category = categories.get(c);
+            String categoryName = category.name().getString();
+            List<OptionDescriptor<?>> options = category.options();
+            for (int row = 0; row < options.size(); row++, document++) {
+                OptionDescriptor<?> option = options.get(row);
+                searchCategories[document] = c;
+                searchRows[document] = row;
+                
+                // Separators and other unnamed rows are not search results
+                String name = option.getName().getString();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                builder.add(document, name, 4);
+                builder.add(document, categoryName, 2);
+                if (option.getDescription() != null) {
+                    builder.add(document, option.getDescription().getString(), 1);
+                }
+            }
+        }
+        searchIndex = builder.build();
+        
+        EclipseUI.getLogger().debug("Built search index for {} options in {} ms",
+            count, (System.nanoTime() - start) / 1_000_000.0);
+        return searchIndex;
+    }
+    
+    private void updateSearch(String query) {
+        optionList.setFilter(query);
+        
+        searchHits = query.isBlank() ? new int[0] : getSearchIndex().search(query, MAX_SEARCH_RESULTS);
+        
+        Component[] names = new Component[searchHits.length];
+        Component[] details = new Component[searchHits.length];
+        for (int i = 0; i < searchHits.length; i++) {
+            CategoryData category = categories.get(searchCategories[searchHits[i]]);
+            names[i] = category.options().get(searchRows[searchHits[i]]).getName();
+            details[i] = category.name();
+        }
+        searchBox.setResults(names, details);
+    }
+    
+    private void jumpToSearchResult(int index) {
+        int document = searchHits[index];
+        int category = searchCategories[document];
+        int row = searchRows[document];
+        
+        // The result may not match the filter (e.g. it matched by category name), so clear it
+        searchBox.setQuery("");
+        updateSearch("");
+        
+        if (category != currentCategory) {
+            optionList.commitPendingEdits();
+            categoryList.setSelectedIndex(category);
+        }
+        optionList.scrollToRow(row);
+        optionList.flashRow(row);
     }
     
     private void handleSave() {
+        optionList.commitPendingEdits();
+        applyEdits();
         if (configData != null) {
-            configData.save();
+            // Values are read here; writing them happens off the client thread
+            lastSave = configData.saveAsync();
+            lastSave.whenComplete((result, error) -> {
+                if (error != null) {
+                    Minecraft.getInstance().execute(() -> handleSaveError(error));
+                }
+            });
         }
         if (onSave != null) {
             onSave.run();
         }
         
-        // Clear modified flags
-        for (OptionWidget option : optionList.getOptions()) {
+        // Staged options were cleared by apply(), live-update ones are not staged
+        for (OptionDescriptor<?> option : optionList.getOptions()) {
             option.setModified(false);
         }
     }
     
+    private void applyEdits() {
+        edits.apply();
+        if (defaultsStaged && configData != null) {
+            configData.markDirty();
+        }
+        defaultsStaged = false;
+    }
+    
+    private void handleSaveError(Throwable error) {
+        // What is on disk is out of date, so the next save must write again
+        if (configData != null) {
+            configData.markDirty();
+        }
+        if (onSaveError != null) {
+            onSaveError.accept(error);
+        }
+    }
+    
+    /**
+     * The latest save of the config data, completed once it is written.
+     */
+    public CompletableFuture<Void> getLastSave() {
+        return lastSave;
+    }
+    
     private void handleReset() {
-        optionList.resetAllToDefaults();
+        resetToDefaults(index -> true);
         if (onReset != null) {
             onReset.run();
         }
     }
     
+    /**
+     * Reset the options of the chosen categories to their defaults in one pass.
+     * Categories not shown yet are built first. The defaults are staged like any other edit,
+     * per-option change callbacks are not fired, and config data listeners are notified once,
+     * when the staged edits are applied.
+     *
+     * @param categories tests category indices, in the order the categories were added
+     */
+    public void resetToDefaults(IntPredicate categories) {
+        // Flush typed text first, so a re-bound field doesn't write it back over its default
+        optionList.commitPendingEdits();
+        
+        boolean reset = false;
+        for (int i = 0; i < this.categories.size(); i++) {
+            if (!categories.test(i)) {
+                continue;
+            }
+            for (OptionDescriptor<?> option : this.categories.get(i).options()) {
+                option.setEditBuffer(edits);
+                option.stageDefault();
+                option.setModified(false);
+                reset = true;
+            }
+        }
+        if (!reset) {
+            return;
+        }
+        
+        optionList.rebindRows();
+        defaultsStaged = true;
+    }
+    
     @Override
     public void onClose() {
-        // Check for unsaved changes
-        if (optionList != null && optionList.hasModifiedOptions()) {
+        if (optionList != null) {
+            optionList.commitPendingEdits();
+        }
+        
+        // Without a save button, closing is how edits are kept
+        if (!showSaveButton) {
+            applyEdits();
+        }
+        
+        // Check for unsaved changes in any category
+        if (edits.hasChanges()) {
             // Show confirmation dialog
             MinecraftScreenCompat.setScreen(this.minecraft, new ConfirmationScreen(
                 this,
@@ -202,6 +433,8 @@ public class EclipseConfigScreen extends Screen {
                 Component.translatable("eclipseui.confirm.unsaved_changes.message"),
                 confirmed -> {
                     if (confirmed) {
+                        edits.discard();
+                        defaultsStaged = false;
                         if (onClose != null) {
                             onClose.run();
                         }
@@ -222,6 +455,16 @@ public class EclipseConfigScreen extends Screen {
     
     @Override
     public void extractRenderState(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        AbstractWidget.beginRetainedFrame();
+        if (TextLayoutCache.checkLanguage()) {
+            AbstractWidget.invalidateAllRetained();
+            
+            // Names are indexed as displayed, so a language change needs a new index
+            searchIndex = null;
+            if (!searchBox.getQuery().isBlank()) {
+                updateSearch(searchBox.getQuery());
+            }
+        }
         
         // Draw semi-transparent overlay on top of blur
         if (theme.useVanillaWidgets()) {
@@ -234,6 +477,7 @@ public class EclipseConfigScreen extends Screen {
         
         // Draw header
         renderHeader(graphics);
+        searchBox.extractRenderState(graphics, mouseX, mouseY, delta);
         
         // Draw footer background
         if (theme.useVanillaWidgets()) {
@@ -258,9 +502,16 @@ public class EclipseConfigScreen extends Screen {
         
         // Render overlays
         optionList.renderOverlays(graphics, mouseX, mouseY, delta);
+        searchBox.renderOverlay(graphics, mouseX, mouseY, delta);
         
         // Render tooltip for hovered option
         renderOptionTooltip(graphics, mouseX, mouseY);
+        
+        if (!firstFrameLogged) {
+            firstFrameLogged = true;
+            EclipseUI.getLogger().debug("Config screen '{}' first frame after {} ms",
+                this.title.getString(), (System.nanoTime() - createdAtNanos) / 1_000_000.0);
+        }
     }
     
     private void renderHeader(GuiGraphicsExtractor graphics) {
@@ -279,42 +530,45 @@ public class EclipseConfigScreen extends Screen {
     
     private void renderOptionTooltip(GuiGraphicsExtractor graphics, int mouseX, int mouseY) {
         // Overlay widgets (dropdowns/color pickers) should render unobstructed.
-        if (optionList.hasExpandedOverlay()) {
+        if (optionList.hasExpandedOverlay() || searchBox.isShowingResults()) {
             return;
         }
 
-        // Quick bounds check before iterating
+        // Quick bounds check before looking up the hovered row
         if (mouseX < SIDEBAR_WIDTH || mouseY < HEADER_HEIGHT || mouseY > this.height - FOOTER_HEIGHT) {
             return;
         }
         
-        for (OptionWidget option : optionList.getOptions()) {
-            if (option.isHovered() && option.getDescription() != null) {
-                // Simple tooltip - draw as wrapped text
-                List<net.minecraft.util.FormattedCharSequence> lines = this.font.split(option.getDescription(), 200);
-                int tooltipHeight = lines.size() * (this.font.lineHeight + 2);
-                int tooltipWidth = 200;
-                int x = Math.min(mouseX + 12, this.width - tooltipWidth - 4);
-                int y = Math.min(mouseY + 12, this.height - tooltipHeight - 4);
-                
-                // Background
-                graphics.fill(x - 3, y - 3, x + tooltipWidth + 3, y + tooltipHeight + 3, 0xF0100010);
-                graphics.fill(x - 4, y - 3, x - 3, y + tooltipHeight + 3, 0x505000FF);
-                graphics.fill(x + tooltipWidth + 3, y - 3, x + tooltipWidth + 4, y + tooltipHeight + 3, 0x5028007F);
-                graphics.fill(x - 3, y - 4, x + tooltipWidth + 3, y - 3, 0x505000FF);
-                graphics.fill(x - 3, y + tooltipHeight + 3, x + tooltipWidth + 3, y + tooltipHeight + 4, 0x5028007F);
-                
-                // Text
-                for (int i = 0; i < lines.size(); i++) {
-                    graphics.text(this.font, lines.get(i), x, y + i * (this.font.lineHeight + 2), 0xFFFFFFFF);
-                }
-                break;
-            }
+        OptionWidget option = optionList.getHoveredOption();
+        if (option == null || option.getDescription() == null) {
+            return;
+        }
+        
+        // Simple tooltip - draw as wrapped text
+        List<net.minecraft.util.FormattedCharSequence> lines = TextLayoutCache.split(this.font, option.getDescription(), 200);
+        int tooltipHeight = lines.size() * (this.font.lineHeight + 2);
+        int tooltipWidth = 200;
+        int x = Math.min(mouseX + 12, this.width - tooltipWidth - 4);
+        int y = Math.min(mouseY + 12, this.height - tooltipHeight - 4);
+        
+        // Background
+        graphics.fill(x - 3, y - 3, x + tooltipWidth + 3, y + tooltipHeight + 3, 0xF0100010);
+        graphics.fill(x - 4, y - 3, x - 3, y + tooltipHeight + 3, 0x505000FF);
+        graphics.fill(x + tooltipWidth + 3, y - 3, x + tooltipWidth + 4, y + tooltipHeight + 3, 0x5028007F);
+        graphics.fill(x - 3, y - 4, x + tooltipWidth + 3, y - 3, 0x505000FF);
+        graphics.fill(x - 3, y + tooltipHeight + 3, x + tooltipWidth + 3, y + tooltipHeight + 4, 0x5028007F);
+        
+        // Text
+        for (int i = 0; i < lines.size(); i++) {
+            graphics.text(this.font, lines.get(i), x, y + i * (this.font.lineHeight + 2), 0xFFFFFFFF);
         }
     }
     
     @Override
     public boolean mouseClicked(MouseButtonEvent event, boolean doubleClick) {
+        // The result list overlaps the option list, so the search box goes first
+        if (searchBox.mouseClicked(event, doubleClick)) return true;
+        searchBox.setFocused(false);
         if (categoryList.mouseClicked(event, doubleClick)) return true;
         if (optionList.mouseClicked(event, doubleClick)) return true;
         if (saveButton != null && saveButton.mouseClicked(event, doubleClick)) return true;
@@ -343,6 +597,11 @@ public class EclipseConfigScreen extends Screen {
     
     @Override
     public boolean keyPressed(KeyEvent event) {
+        if (searchBox.isFocused() && searchBox.keyPressed(event)) return true;
+        if (event.key() == 70 && (event.modifiers() & 2) != 0) { // Ctrl+F
+            searchBox.setFocused(true);
+            return true;
+        }
         if (optionList.keyPressed(event)) return true;
         if (categoryList.keyPressed(event)) return true;
         return super.keyPressed(event);
@@ -350,19 +609,46 @@ public class EclipseConfigScreen extends Screen {
     
     @Override
     public boolean charTyped(CharacterEvent event) {
+        if (searchBox.isFocused() && searchBox.charTyped(event)) return true;
         if (optionList.charTyped(event)) return true;
         return super.charTyped(event);
     }
     
     /**
      * Data class for a category with its options.
+     * Options can be supplied lazily; they are materialized the first time they are requested.
      */
-    public record CategoryData(
-        Component name,
-        @Nullable net.minecraft.resources.Identifier icon,
-        @Nullable Component description,
-        List<OptionWidget> options
-    ) {
+    public static final class CategoryData {
+        private final Component name;
+        private final @Nullable net.minecraft.resources.Identifier icon;
+        private final @Nullable Component description;
+        private @Nullable Supplier<List<OptionDescriptor<?>>> optionsFactory;
+        private @Nullable List<OptionDescriptor<?>> options;
+        
+        public CategoryData(
+            Component name,
+            @Nullable net.minecraft.resources.Identifier icon,
+            @Nullable Component description,
+            List<OptionDescriptor<?>> options
+        ) {
+            this.name = name;
+            this.icon = icon;
+            this.description = description;
+            this.options = options;
+        }
+        
+        public CategoryData(
+            Component name,
+            @Nullable net.minecraft.resources.Identifier icon,
+            @Nullable Component description,
+            Supplier<List<OptionDescriptor<?>>> optionsFactory
+        ) {
+            this.name = name;
+            this.icon = icon;
+            this.description = description;
+            this.optionsFactory = optionsFactory;
+        }
+        
         public CategoryData(Component name) {
             this(name, null, null, new ArrayList<>());
         }
@@ -370,5 +656,32 @@ public class EclipseConfigScreen extends Screen {
         public CategoryData(Component name, @Nullable net.minecraft.resources.Identifier icon) {
             this(name, icon, null, new ArrayList<>());
         }
+        
+        public Component name() {
+            return name;
+        }
+        
+        public @Nullable net.minecraft.resources.Identifier icon() {
+            return icon;
+        }
+        
+        public @Nullable Component description() {
+            return description;
+        }
+        
+        /**
+         * Get the options of this category, materializing them on first access.
+         */
+        public List<OptionDescriptor<?>> options() {
+            if (options == null) {
+                options = optionsFactory.get();
+                optionsFactory = null;
+            }
+            return options;
+        }
+        
+        public boolean isMaterialized() {
+            return options != null;
+        }
     }
 }
@@ -1,6 +1,7 @@
 package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.gui.theme.Colors;
 import dev.eclipseui.util.Dim2i;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.components.Renderable;
@@ -10,6 +11,9 @@ import net.minecraft.client.gui.narration.NarrationElementOutput;
 import net.minecraft.client.input.CharacterEvent;
 import net.minecraft.client.input.KeyEvent;
 import net.minecraft.client.input.MouseButtonEvent;
+import net.minecraft.resources.Identifier;
+
+import java.util.Arrays;
 
 /**
  * Base widget class for EclipseUI, inspired by Sodium's widget architecture.
@@ -17,6 +21,11 @@ import net.minecraft.client.input.MouseButtonEvent;
  */
 public abstract class AbstractWidget implements Renderable, GuiEventListener, NarratableEntry {
     
+    // Vanilla button sprite locations
+    protected static final Identifier BUTTON_SPRITE = Identifier.withDefaultNamespace("widget/button");
+    protected static final Identifier BUTTON_DISABLED_SPRITE = Identifier.withDefaultNamespace("widget/button_disabled");
+    protected static final Identifier BUTTON_HIGHLIGHTED_SPRITE = Identifier.withDefaultNamespace("widget/button_highlighted");
+    
     protected Dim2i dim;
     protected ThemeData theme;
     protected boolean visible = true;
@@ -24,6 +33,19 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
     protected boolean focused = false;
     protected boolean hovered = false;
     
+    // Retained rendering: recorded draw calls, replayed until the widget is marked dirty
+    private DrawList drawList;
+    private boolean drawDirty = true;
+    
+    // Bumped to invalidate every retained widget at once (resize, language or resource reload)
+    private static int retainedGeneration = 0;
+    
+    // Debug counters for retained widgets, for the current and the last completed frame
+    private static int recordedThisFrame;
+    private static int replayedThisFrame;
+    private static int recordedLastFrame;
+    private static int replayedLastFrame;
+    
     public AbstractWidget(Dim2i dim, ThemeData theme) {
         this.dim = dim;
         this.theme = theme;
@@ -35,10 +57,73 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
             return;
         }
         
-        this.hovered = this.dim.containsCursor(mouseX, mouseY);
+        boolean nowHovered = this.dim.containsCursor(mouseX, mouseY);
+        if (nowHovered != this.hovered) {
+            this.hovered = nowHovered;
+            markDirty();
+        }
         this.renderWidget(graphics, mouseX, mouseY, delta);
     }
     
+    /**
+     * Replay the recorded draw calls of a {@link RetainedWidget}, re-recording them first if the
+     * widget is dirty.
+     */
+    protected static <W extends AbstractWidget & RetainedWidget> void renderRetained(W widget, GuiGraphicsExtractor graphics) {
+        AbstractWidget base = widget;
+        if (base.drawList == null) {
+            base.drawList = new DrawList();
+        }
+        if (base.drawDirty || base.drawList.generation != retainedGeneration) {
+            base.drawList.clear();
+            widget.recordWidget(base.drawList);
+            base.drawList.generation = retainedGeneration;
+            base.drawDirty = false;
+            recordedThisFrame++;
+        } else {
+            replayedThisFrame++;
+        }
+        base.drawList.replay(graphics);
+    }
+    
+    /**
+     * Mark the retained draw calls as stale, so they are recorded again on the next frame.
+     */
+    public void markDirty() {
+        this.drawDirty = true;
+    }
+    
+    /**
+     * Mark every retained widget as stale, e.g. after a resize or when font metrics may have changed.
+     */
+    public static void invalidateAllRetained() {
+        retainedGeneration++;
+    }
+    
+    /**
+     * Finish the current frame's retained rendering statistics. Call once per frame, before rendering.
+     */
+    public static void beginRetainedFrame() {
+        recordedLastFrame = recordedThisFrame;
+        replayedLastFrame = replayedThisFrame;
+        recordedThisFrame = 0;
+        replayedThisFrame = 0;
+    }
+    
+    /**
+     * Number of retained widgets that were re-recorded in the last frame.
+     */
+    public static int getRecordedWidgetCount() {
+        return recordedLastFrame;
+    }
+    
+    /**
+     * Number of retained widgets that replayed their cached draw calls in the last frame.
+     */
+    public static int getReplayedWidgetCount() {
+        return replayedLastFrame;
+    }
+    
     /**
      * Render overlay elements that should appear on top of all other widgets.
      * Called after all widgets have been rendered.
@@ -151,7 +236,10 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
     
     @Override
     public void setFocused(boolean focused) {
-        this.focused = focused;
+        if (this.focused != focused) {
+            this.focused = focused;
+            markDirty();
+        }
     }
     
     @Override
@@ -180,6 +268,7 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
     
     public void setDim(Dim2i dim) {
         this.dim = dim;
+        markDirty();
     }
     
     public int getX() {
@@ -211,7 +300,10 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
     }
     
     public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            markDirty();
+        }
     }
     
     public boolean isHovered() {
@@ -224,6 +316,7 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
     
     public void setTheme(ThemeData theme) {
         this.theme = theme;
+        markDirty();
     }
     
     // Utility rendering methods
@@ -249,9 +342,68 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
         graphics.fill(x + width - 1, y, x + width, y + height, color);
     }
     
+    /**
+     * Fill a rectangle with a top-to-bottom gradient as a single vertex-colored quad.
+     */
+    public static void fillGradientVertical(GuiGraphicsExtractor graphics, int x, int y, int width, int height, int topColor, int bottomColor) {
+        if (topColor == bottomColor) {
+            graphics.fill(x, y, x + width, y + height, topColor);
+            return;
+        }
+        graphics.fillGradient(x, y, x + width, y + height, topColor, bottomColor);
+    }
+    
+    /**
+     * Fill a rectangle with a left-to-right gradient as a single vertex-colored quad.
+     * The vanilla gradient only runs vertically, so it is drawn rotated by a quarter turn.
+     */
+    public static void fillGradientHorizontal(GuiGraphicsExtractor graphics, int x, int y, int width, int height, int leftColor, int rightColor) {
+        if (leftColor == rightColor) {
+            graphics.fill(x, y, x + width, y + height, leftColor);
+            return;
+        }
+        var pose = graphics.pose();
+        pose.pushMatrix();
+        // Maps local (u, v) to (x + v, y + height - u), so local "top" becomes the left edge
+        pose.translate(x, y + height);
+        pose.rotate((float) (-Math.PI / 2));
+        graphics.fillGradient(0, 0, height, width, leftColor, rightColor);
+        pose.popMatrix();
+    }
+    
+    /**
+     * Fill a rectangle with a bilinear gradient between four corner colors.
+     * Drawn as vertical gradient columns whose end colors follow the top and bottom edges,
+     * so the result is exact along columns and close to bilinear across them.
+     */
+    public static void fillGradientCorners(GuiGraphicsExtractor graphics, int x, int y, int width, int height,
+                                           int topLeft, int topRight, int bottomLeft, int bottomRight) {
+        if (topLeft == topRight && bottomLeft == bottomRight) {
+            fillGradientVertical(graphics, x, y, width, height, topLeft, bottomLeft);
+            return;
+        }
+        if (topLeft == bottomLeft && topRight == bottomRight) {
+            fillGradientHorizontal(graphics, x, y, width, height, topLeft, topRight);
+            return;
+        }
+        int columns = Math.min(width, GRADIENT_CORNER_COLUMNS);
+        for (int i = 0; i < columns; i++) {
+            int x0 = x + (width * i) / columns;
+            int x1 = x + (width * (i + 1)) / columns;
+            // Sample the edge colors at the column center
+            float t = (i + 0.5f) / columns;
+            int top = Colors.blend(topLeft, topRight, t);
+            int bottom = Colors.blend(bottomLeft, bottomRight, t);
+            graphics.fillGradient(x0, y, x1, y + height, top, bottom);
+        }
+    }
+    
+    // Column count for four-corner gradients
+    private static final int GRADIENT_CORNER_COLUMNS = 16;
+    
     /**
      * Fill a rounded rectangle with actual rounded corners.
-     * Uses a corner-cutting approach for pixel-perfect corners.
+     * Corner rows come from a cached per-radius span table, so each scanline is a single fill.
      */
     protected void fillRoundedRect(GuiGraphicsExtractor graphics, int x, int y, int width, int height, int radius, int color) {
         if (radius <= 0) {
@@ -261,34 +413,97 @@ public abstract class AbstractWidget implements Renderable, GuiEventListener, Na
         
         // Clamp radius to half of the smallest dimension
         radius = Math.min(radius, Math.min(width, height) / 2);
+        if (radius <= 0) {
+            fillRect(graphics, x, y, width, height, color);
+            return;
+        }
+        
+        int[] insets = getCornerInsets(radius);
+        
+        // Corner scanlines, spanning the full width between the arcs
+        for (int cy = 0; cy < radius; cy++) {
+            int inset = insets[cy];
+            graphics.fill(x + inset, y + cy, x + width - inset, y + cy + 1, color);
+            graphics.fill(x + inset, y + height - cy - 1, x + width - inset, y + height - cy, color);
+        }
+        
+        // Body between the corner rows
+        fillRect(graphics, x, y + radius, width, height - 2 * radius, color);
+    }
+    
+    /**
+     * Draw a 1px rounded rectangle outline, using the same corner shape as {@link #fillRoundedRect}.
+     */
+    protected void drawRoundedRect(GuiGraphicsExtractor graphics, int x, int y, int width, int height, int radius, int color) {
+        if (radius <= 0) {
+            drawRect(graphics, x, y, width, height, color);
+            return;
+        }
+        
+        radius = Math.min(radius, Math.min(width, height) / 2);
+        if (radius <= 0) {
+            drawRect(graphics, x, y, width, height, color);
+            return;
+        }
+        
+        int[] insets = getCornerInsets(radius);
         
-        // Main body (excluding corners)
-        // Center horizontal strip
-        fillRect(graphics, x + radius, y, width - 2 * radius, height, color);
-        // Left vertical strip
-        fillRect(graphics, x, y + radius, radius, height - 2 * radius, color);
-        // Right vertical strip
-        fillRect(graphics, x + width - radius, y + radius, radius, height - 2 * radius, color);
+        // Top and bottom edges
+        graphics.fill(x + insets[0], y, x + width - insets[0], y + 1, color);
+        graphics.fill(x + insets[0], y + height - 1, x + width - insets[0], y + height, color);
         
-        // Draw corner pixels using squared distance comparison (avoids sqrt)
+        // Arc pixels: each row runs from its own inset up to the previous row's inset,
+        // so steep parts of the curve stay connected
+        for (int cy = 1; cy < radius; cy++) {
+            int from = insets[cy];
+            int to = Math.max(from + 1, insets[cy - 1]);
+            graphics.fill(x + from, y + cy, x + to, y + cy + 1, color);
+            graphics.fill(x + width - to, y + cy, x + width - from, y + cy + 1, color);
+            graphics.fill(x + from, y + height - cy - 1, x + to, y + height - cy, color);
+            graphics.fill(x + width - to, y + height - cy - 1, x + width - from, y + height - cy, color);
+        }
+        
+        // Left and right edges
+        graphics.fill(x, y + radius, x + 1, y + height - radius, color);
+        graphics.fill(x + width - 1, y + radius, x + width, y + height - radius, color);
+    }
+    
+    // Corner span tables indexed by radius, computed on first use
+    private static int[][] cornerInsets = new int[17][];
+    
+    /**
+     * Get the corner span table for a radius: for each row from the outer edge inward,
+     * the number of pixels cut off before the filled span begins.
+     */
+    private static int[] getCornerInsets(int radius) {
+        if (radius >= cornerInsets.length) {
+            cornerInsets = Arrays.copyOf(cornerInsets, Math.max(radius + 1, cornerInsets.length * 2));
+        }
+        int[] insets = cornerInsets[radius];
+        if (insets == null) {
+            insets = computeCornerInsets(radius);
+            cornerInsets[radius] = insets;
+        }
+        return insets;
+    }
+    
+    private static int[] computeCornerInsets(int radius) {
+        int[] insets = new int[radius];
+        // Same pixel-center test as a per-pixel circle, using squared distances (avoids sqrt)
         float radiusSquared = radius * radius;
-        for (int cx = 0; cx < radius; cx++) {
-            float dx = radius - cx - 0.5f;
-            float dxSquared = dx * dx;
-            for (int cy = 0; cy < radius; cy++) {
-                float dy = radius - cy - 0.5f;
-                // Compare squared distances to avoid sqrt
-                if (dxSquared + dy * dy <= radiusSquared) {
-                    // Top-left corner
-                    graphics.fill(x + cx, y + cy, x + cx + 1, y + cy + 1, color);
-                    // Top-right corner
-                    graphics.fill(x + width - cx - 1, y + cy, x + width - cx, y + cy + 1, color);
-                    // Bottom-left corner
-                    graphics.fill(x + cx, y + height - cy - 1, x + cx + 1, y + height - cy, color);
-                    // Bottom-right corner
-                    graphics.fill(x + width - cx - 1, y + height - cy - 1, x + width - cx, y + height - cy, color);
+        for (int cy = 0; cy < radius; cy++) {
+            float dy = radius - cy - 0.5f;
+            float dySquared = dy * dy;
+            int cx = 0;
+            while (cx < radius) {
+                float dx = radius - cx - 0.5f;
+                if (dx * dx + dySquared <= radiusSquared) {
+                    break;
                 }
+                cx++;
             }
+            insets[cy] = cx;
         }
+        return insets;
     }
 }
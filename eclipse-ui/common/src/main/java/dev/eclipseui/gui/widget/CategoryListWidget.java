@@ -2,8 +2,10 @@ package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.client.renderer.RenderPipelines;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.Identifier;
 import org.jetbrains.annotations.Nullable;
@@ -79,15 +81,15 @@ public class CategoryListWidget extends AbstractWidget {
             if (theme.useVanillaWidgets()) {
                 // Vanilla style - use button sprites for selected/hovered
                 if (isSelected) {
-                    net.minecraft.resources.Identifier sprite = net.minecraft.resources.Identifier.withDefaultNamespace("widget/button");
-                    graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, dim.x() + 2, itemY + 1, dim.width() - 4, ITEM_HEIGHT - 2);
+                    Identifier sprite = BUTTON_SPRITE;
+                    graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, dim.x() + 2, itemY + 1, dim.width() - 4, ITEM_HEIGHT - 2);
                 } else if (isHovered) {
-                    net.minecraft.resources.Identifier sprite = net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_highlighted");
-                    graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, dim.x() + 2, itemY + 1, dim.width() - 4, ITEM_HEIGHT - 2);
+                    Identifier sprite = BUTTON_HIGHLIGHTED_SPRITE;
+                    graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, dim.x() + 2, itemY + 1, dim.width() - 4, ITEM_HEIGHT - 2);
                 }
                 
                 // Text centered with shadow
-                int textX = dim.x() + (dim.width() - font.width(category.name)) / 2;
+                int textX = dim.x() + (dim.width() - TextLayoutCache.width(font, category.name)) / 2;
                 int textY = itemY + (ITEM_HEIGHT - font.lineHeight) / 2;
                 int textColor = isSelected ? 0xFFFFFFFF : (isHovered ? 0xFFFFFFA0 : 0xFFE0E0E0);
                 graphics.text(font, category.name, textX, textY, textColor, true);
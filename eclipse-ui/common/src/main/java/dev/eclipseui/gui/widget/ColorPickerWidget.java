@@ -10,30 +10,36 @@ import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.narration.NarratedElementType;
 import net.minecraft.client.gui.narration.NarrationElementOutput;
 import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.client.renderer.RenderPipelines;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
 
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 
 /**
  * A color picker widget for color options.
  */
 public class ColorPickerWidget extends OptionWidget {
     
-    private Supplier<Integer> getter;
-    private Consumer<Integer> setter;
+    private IntSupplier getter;
+    private IntConsumer setter;
     private int defaultValue = 0xFFFFFFFF;
     private boolean liveUpdate;
-    private Consumer<Integer> onChange;
+    private IntConsumer onChange;
     private boolean allowAlpha = false;
     private boolean showHexInput = true;
     private int[] presets;
     
+    // Cache for hex text to avoid formatting every frame
+    private int cachedHexColor;
+    private String cachedHexText = null;
+    
     public ColorPickerWidget(Dim2i dim, ThemeData theme, Component name) {
         super(dim, theme, name);
     }
     
-    public ColorPickerWidget binding(Supplier<Integer> getter, Consumer<Integer> setter) {
+    public ColorPickerWidget binding(IntSupplier getter, IntConsumer setter) {
         this.getter = getter;
         this.setter = setter;
         return this;
@@ -46,6 +52,7 @@ public class ColorPickerWidget extends OptionWidget {
     
     public ColorPickerWidget allowAlpha(boolean allowAlpha) {
         this.allowAlpha = allowAlpha;
+        this.cachedHexText = null;
         return this;
     }
     
@@ -54,7 +61,7 @@ public class ColorPickerWidget extends OptionWidget {
         return this;
     }
     
-    public ColorPickerWidget onChange(Consumer<Integer> onChange) {
+    public ColorPickerWidget onChange(IntConsumer onChange) {
         this.onChange = onChange;
         return this;
     }
@@ -70,7 +77,7 @@ public class ColorPickerWidget extends OptionWidget {
     }
     
     public int getValue() {
-        return this.getter != null ? this.getter.get() : this.defaultValue;
+        return this.getter != null ? this.getter.getAsInt() : this.defaultValue;
     }
     
     public void setValue(int value) {
@@ -92,10 +99,16 @@ public class ColorPickerWidget extends OptionWidget {
     }
 
     private String getDisplayHex(int color) {
+        if (cachedHexText != null && color == cachedHexColor) {
+            return cachedHexText;
+        }
+        cachedHexColor = color;
         if (allowAlpha) {
-            return Colors.toHexWithHash(color);
+            cachedHexText = Colors.toHexWithHash(color);
+        } else {
+            cachedHexText = String.format("#%06X", color & 0x00FFFFFF);
         }
-        return String.format("#%06X", color & 0x00FFFFFF);
+        return cachedHexText;
     }
 
     private void openPickerScreen() {
@@ -136,10 +149,10 @@ public class ColorPickerWidget extends OptionWidget {
         
         if (theme.useVanillaWidgets()) {
             // Draw button background first
-            net.minecraft.resources.Identifier sprite = this.hovered 
-                ? net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_highlighted")
-                : net.minecraft.resources.Identifier.withDefaultNamespace("widget/button");
-            graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, previewX, previewY, previewSize, previewSize);
+            Identifier sprite = this.hovered 
+                ? BUTTON_HIGHLIGHTED_SPRITE
+                : BUTTON_SPRITE;
+            graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, previewX, previewY, previewSize, previewSize);
             // Draw color swatch inside with 2px padding
             fillRect(graphics, previewX + 2, previewY + 2, previewSize - 4, previewSize - 4, color);
         } else {
@@ -0,0 +1,131 @@
+package dev.eclipseui.gui.widget;
+
+import com.mojang.blaze3d.pipeline.RenderPipeline;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
+
+import java.util.Arrays;
+
+/**
+ * A recorded sequence of GUI draw calls that can be replayed without re-running the widget's render logic.
+ * Commands are packed into an int buffer; object arguments (fonts, text, sprites) go into a side array.
+ * Buffers are kept across {@link #clear()} so re-recording a widget does not allocate.
+ */
+public final class DrawList {
+    
+    private static final int OP_FILL = 0;
+    private static final int OP_GRADIENT = 1;
+    private static final int OP_TEXT = 2;
+    private static final int OP_SPRITE = 3;
+    
+    private int[] data = new int[32];
+    private Object[] refs = new Object[8];
+    private int dataSize;
+    private int refSize;
+    
+    // Retained generation this list was recorded in, see AbstractWidget#invalidateAllRetained
+    int generation = -1;
+    
+    public void fill(int x1, int y1, int x2, int y2, int color) {
+        ensureData(6);
+        data[dataSize++] = OP_FILL;
+        data[dataSize++] = x1;
+        data[dataSize++] = y1;
+        data[dataSize++] = x2;
+        data[dataSize++] = y2;
+        data[dataSize++] = color;
+    }
+    
+    public void fillGradient(int x1, int y1, int x2, int y2, int topColor, int bottomColor) {
+        ensureData(7);
+        data[dataSize++] = OP_GRADIENT;
+        data[dataSize++] = x1;
+        data[dataSize++] = y1;
+        data[dataSize++] = x2;
+        data[dataSize++] = y2;
+        data[dataSize++] = topColor;
+        data[dataSize++] = bottomColor;
+    }
+    
+    public void text(Font font, Component text, int x, int y, int color, boolean shadow) {
+        ensureData(5);
+        ensureRefs(2);
+        data[dataSize++] = OP_TEXT;
+        data[dataSize++] = x;
+        data[dataSize++] = y;
+        data[dataSize++] = color;
+        data[dataSize++] = shadow ? 1 : 0;
+        refs[refSize++] = font;
+        refs[refSize++] = text;
+    }
+    
+    public void blitSprite(RenderPipeline pipeline, Identifier sprite, int x, int y, int width, int height) {
+        ensureData(5);
+        ensureRefs(2);
+        data[dataSize++] = OP_SPRITE;
+        data[dataSize++] = x;
+        data[dataSize++] = y;
+        data[dataSize++] = width;
+        data[dataSize++] = height;
+        refs[refSize++] = pipeline;
+        refs[refSize++] = sprite;
+    }
+    
+    /**
+     * Draw every recorded command, in recording order.
+     */
+    public void replay(GuiGraphicsExtractor graphics) {
+        int i = 0;
+        int r = 0;
+        while (i < dataSize) {
+            switch (data[i]) {
+                case OP_FILL -> {
+                    graphics.fill(data[i + 1], data[i + 2], data[i + 3], data[i + 4], data[i + 5]);
+                    i += 6;
+                }
+                case OP_GRADIENT -> {
+                    graphics.fillGradient(data[i + 1], data[i + 2], data[i + 3], data[i + 4], data[i + 5], data[i + 6]);
+                    i += 7;
+                }
+                case OP_TEXT -> {
+                    graphics.text((Font) refs[r], (Component) refs[r + 1], data[i + 1], data[i + 2], data[i + 3], data[i + 4] != 0);
+                    i += 5;
+                    r += 2;
+                }
+                case OP_SPRITE -> {
+                    graphics.blitSprite((RenderPipeline) refs[r], (Identifier) refs[r + 1], data[i + 1], data[i + 2], data[i + 3], data[i + 4]);
+                    i += 5;
+                    r += 2;
+                }
+                default -> throw new IllegalStateException("Unknown draw op " + data[i] + " at " + i);
+            }
+        }
+    }
+    
+    /**
+     * Drop all commands, keeping the allocated buffers.
+     */
+    public void clear() {
+        Arrays.fill(refs, 0, refSize, null);
+        dataSize = 0;
+        refSize = 0;
+    }
+    
+    public boolean isEmpty() {
+        return dataSize == 0;
+    }
+    
+    private void ensureData(int extra) {
+        if (dataSize + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataSize + extra));
+        }
+    }
+    
+    private void ensureRefs(int extra) {
+        if (refSize + extra > refs.length) {
+            refs = Arrays.copyOf(refs, Math.max(refs.length * 2, refSize + extra));
+        }
+    }
+}
@@ -2,11 +2,14 @@ package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.narration.NarratedElementType;
 import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.client.renderer.RenderPipelines;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
 
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -17,7 +20,11 @@ import java.util.function.Supplier;
  */
 public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
     
+    private static final Component NO_VALUE_TEXT = Component.literal("---");
+    
     private Class<E> enumClass;
+    // getEnumConstants() clones the array on every call, so it is fetched once per enum class
+    private E[] values;
     private Supplier<E> getter;
     private Consumer<E> setter;
     private E defaultValue;
@@ -28,18 +35,29 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
     private boolean expanded = false;
     private int hoveredIndex = -1;
     
+    // Display text per enum ordinal, built on first use
+    private Component[] displayTexts;
+    
     public DropdownWidget(Dim2i dim, ThemeData theme, Component name) {
         super(dim, theme, name);
     }
     
     public DropdownWidget<E> enumClass(Class<E> enumClass) {
+        // Called on every rebind; keep the values and labels while the row shows the same enum
+        if (enumClass == this.enumClass) {
+            return this;
+        }
         this.enumClass = enumClass;
+        this.values = enumClass != null ? enumClass.getEnumConstants() : null;
+        this.displayTexts = null;
         return this;
     }
     
     public DropdownWidget<E> binding(Supplier<E> getter, Consumer<E> setter) {
         this.getter = getter;
         this.setter = setter;
+        this.expanded = false;
+        this.hoveredIndex = -1;
         return this;
     }
     
@@ -59,7 +77,11 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
     }
     
     public DropdownWidget<E> formatter(Function<E, Component> formatter) {
+        if (formatter == this.formatter) {
+            return this;
+        }
         this.formatter = formatter;
+        this.displayTexts = null;
         return this;
     }
     
@@ -85,7 +107,6 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
     private void cycleValue(boolean forward) {
         if (enumClass == null) return;
         
-        E[] values = enumClass.getEnumConstants();
         E current = getValue();
         if (current == null && values.length > 0) {
             setValue(values[0]);
@@ -104,8 +125,20 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
     
     private Component getDisplayText(E value) {
         if (value == null) {
-            return Component.literal("---");
+            return NO_VALUE_TEXT;
         }
+        if (this.displayTexts == null) {
+            this.displayTexts = new Component[values.length];
+        }
+        Component text = this.displayTexts[value.ordinal()];
+        if (text == null) {
+            text = formatDisplayText(value);
+            this.displayTexts[value.ordinal()] = text;
+        }
+        return text;
+    }
+    
+    private Component formatDisplayText(E value) {
         if (this.formatter != null) {
             return this.formatter.apply(value);
         }
@@ -127,15 +160,15 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
             int buttonWidth = controlDim.width() - 4;
             
             // Draw vanilla button using sprites
-            net.minecraft.resources.Identifier sprite = this.enabled 
-                ? (this.hovered ? net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_highlighted") 
-                    : net.minecraft.resources.Identifier.withDefaultNamespace("widget/button"))
-                : net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_disabled");
-            graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, buttonX, buttonY, buttonWidth, buttonHeight);
+            Identifier sprite = this.enabled 
+                ? (this.hovered ? BUTTON_HIGHLIGHTED_SPRITE 
+                    : BUTTON_SPRITE)
+                : BUTTON_DISABLED_SPRITE;
+            graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, buttonX, buttonY, buttonWidth, buttonHeight);
             
             // Draw current value centered with shadow
             Component displayText = getDisplayText(getValue());
-            int textWidth = font.width(displayText);
+            int textWidth = TextLayoutCache.width(font, displayText);
             int textX = buttonX + (buttonWidth - textWidth) / 2;
             int textY = buttonY + (buttonHeight - font.lineHeight) / 2;
             int textColor = this.enabled ? 0xFFFFFFFF : 0xFF707070;
@@ -163,7 +196,7 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
             
             // Draw dropdown arrow
             String arrow = this.expanded ? "▲" : "▼";
-            int arrowX = buttonX + buttonWidth - font.width(arrow) - 6;
+            int arrowX = buttonX + buttonWidth - TextLayoutCache.width(font, arrow) - 6;
             graphics.text(font, arrow, arrowX, textY, theme.textSecondary(), false);
         }
         
@@ -181,9 +214,8 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
         int itemHeight = theme.useVanillaWidgets() ? 20 : 14;
         int buttonY = controlDim.getCenterY() - (buttonHeight / 2);
         
-        E[] values = enumClass.getEnumConstants();
         int dropdownHeight = values.length * itemHeight;
-        int dropdownY = buttonY + buttonHeight;
+        int dropdownY = buttonY + buttonHeight + screenOffsetY;
         
         // Get screen height
         int screenHeight = Minecraft.getInstance().getWindow().getGuiScaledHeight();
@@ -200,7 +232,6 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
         Dim2i controlDim = getControlDim();
         var font = Minecraft.getInstance().font;
         
-        E[] values = enumClass.getEnumConstants();
         boolean flipUpward = shouldFlipUpward();
         
         if (theme.useVanillaWidgets()) {
@@ -231,12 +262,12 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
                 if (isHovered) {
                     this.hoveredIndex = i;
                     // Use vanilla button highlighted sprite for hovered items
-                    net.minecraft.resources.Identifier sprite = net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_highlighted");
-                    graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, buttonX, itemY, buttonWidth, itemHeight);
+                    Identifier sprite = BUTTON_HIGHLIGHTED_SPRITE;
+                    graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, buttonX, itemY, buttonWidth, itemHeight);
                 } else if (isSelected) {
                     // Use regular button for selected
-                    net.minecraft.resources.Identifier sprite = net.minecraft.resources.Identifier.withDefaultNamespace("widget/button");
-                    graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, buttonX, itemY, buttonWidth, itemHeight);
+                    Identifier sprite = BUTTON_SPRITE;
+                    graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, buttonX, itemY, buttonWidth, itemHeight);
                 } else {
                     // Draw dark background for unselected items
                     fillRect(graphics, buttonX, itemY, buttonWidth, itemHeight, 0xFF2B2B2B);
@@ -246,7 +277,7 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
                 drawRect(graphics, buttonX, itemY, buttonWidth, itemHeight, 0xFF555555);
                 
                 Component itemText = getDisplayText(value);
-                int textWidth = font.width(itemText);
+                int textWidth = TextLayoutCache.width(font, itemText);
                 int textX = buttonX + (buttonWidth - textWidth) / 2;
                 int textY2 = itemY + (itemHeight - font.lineHeight) / 2;
                 int itemTextColor = isSelected ? 0xFFFFFFFF : 0xFFAAAAAA;
@@ -306,7 +337,6 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
         
         // Check if clicking on dropdown items
         if (this.expanded && this.enumClass != null) {
-            E[] values = enumClass.getEnumConstants();
             int dropdownHeight = values.length * itemHeight;
             boolean flipUpward = shouldFlipUpward();
             int dropdownY = flipUpward ? (buttonY - dropdownHeight) : (buttonY + buttonHeight);
@@ -345,7 +375,6 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
             if (keyCode == 32 || keyCode == 257) { // Space or Enter
                 if (this.expanded) {
                     if (hoveredIndex >= 0 && enumClass != null) {
-                        E[] values = enumClass.getEnumConstants();
                         if (hoveredIndex < values.length) {
                             setValue(values[hoveredIndex]);
                         }
@@ -385,7 +414,6 @@ public class DropdownWidget<E extends Enum<E>> extends OptionWidget {
         int buttonY = controlDim.getCenterY() - (buttonHeight / 2);
         int buttonWidth = controlDim.width() - 4;
         
-        E[] values = enumClass.getEnumConstants();
         int dropdownY = buttonY + buttonHeight;
         int dropdownHeight = values.length * itemHeight;
         
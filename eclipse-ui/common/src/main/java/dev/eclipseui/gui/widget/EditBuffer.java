@@ -0,0 +1,136 @@
+package dev.eclipseui.gui.widget;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Edits made on a config screen, held back from the bound setters until they are applied.
+ * Each option gets a slot the first time it is bound. Booleans, ints and doubles are stored in a
+ * primitive array and other values in an object array; a bit per slot marks the values that
+ * differ from the binding. Applying writes every marked slot through its setter in one pass,
+ * across all categories, including ones whose rows are no longer on screen.
+ */
+public final class EditBuffer {
+    
+    private long[] primitives = new long[16];
+    private Object[] objects = new Object[16];
+    private Runnable[] appliers = new Runnable[16];
+    private OptionDescriptor<?>[] options = new OptionDescriptor<?>[16];
+    private int size;
+    
+    private final BitSet dirty = new BitSet();
+    private int dirtyCount;
+    
+    /**
+     * Reserve a slot for an option.
+     */
+    int register(OptionDescriptor<?> option) {
+        if (this.size == this.options.length) {
+            int capacity = this.size * 2;
+            this.primitives = Arrays.copyOf(this.primitives, capacity);
+            this.objects = Arrays.copyOf(this.objects, capacity);
+            this.appliers = Arrays.copyOf(this.appliers, capacity);
+            this.options = Arrays.copyOf(this.options, capacity);
+        }
+        this.options[this.size] = option;
+        return this.size++;
+    }
+    
+    /**
+     * Set how a slot's staged value is written to its binding.
+     */
+    void setApplier(int slot, Runnable applier) {
+        this.appliers[slot] = applier;
+    }
+    
+    /**
+     * Whether any option has a value that differs from its binding.
+     */
+    public boolean hasChanges() {
+        return this.dirtyCount > 0;
+    }
+    
+    /**
+     * Number of options with a value that differs from their binding.
+     */
+    public int changeCount() {
+        return this.dirtyCount;
+    }
+    
+    public boolean isDirty(int slot) {
+        return this.dirty.get(slot);
+    }
+    
+    private void mark(int slot, boolean changed) {
+        if (this.dirty.get(slot) != changed) {
+            this.dirty.set(slot, changed);
+            this.dirtyCount += changed ? 1 : -1;
+        }
+    }
+    
+    boolean getBoolean(int slot) {
+        return this.primitives[slot] != 0;
+    }
+    
+    /**
+     * Stage a value; {@code changed} tells whether it differs from the binding.
+     */
+    void putBoolean(int slot, boolean value, boolean changed) {
+        this.primitives[slot] = value ? 1 : 0;
+        mark(slot, changed);
+    }
+    
+    int getInt(int slot) {
+        return (int) this.primitives[slot];
+    }
+    
+    void putInt(int slot, int value, boolean changed) {
+        this.primitives[slot] = value;
+        mark(slot, changed);
+    }
+    
+    double getDouble(int slot) {
+        return Double.longBitsToDouble(this.primitives[slot]);
+    }
+    
+    void putDouble(int slot, double value, boolean changed) {
+        this.primitives[slot] = Double.doubleToRawLongBits(value);
+        mark(slot, changed);
+    }
+    
+    Object getObject(int slot) {
+        return this.objects[slot];
+    }
+    
+    void putObject(int slot, Object value, boolean changed) {
+        // Don't hold on to values that match the binding
+        this.objects[slot] = changed ? value : null;
+        mark(slot, changed);
+    }
+    
+    /**
+     * Write all staged values to their bindings and clear the modified flags.
+     */
+    public void apply() {
+        for (int slot = this.dirty.nextSetBit(0); slot >= 0; slot = this.dirty.nextSetBit(slot + 1)) {
+            this.appliers[slot].run();
+        }
+        clear();
+    }
+    
+    /**
+     * Drop all staged values, leaving the bindings as they were.
+     */
+    public void discard() {
+        clear();
+    }
+    
+    private void clear() {
+        this.dirty.clear();
+        this.dirtyCount = 0;
+        Arrays.fill(this.objects, 0, this.size, null);
+        for (int i = 0; i < this.size; i++) {
+            this.options[i].setModified(false);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.narration.NarratedElementType;
@@ -15,12 +16,7 @@ import java.util.function.Consumer;
 /**
  * A simple flat-style button widget.
  */
-public class FlatButtonWidget extends AbstractWidget {
-    
-    // Vanilla button sprite locations
-    private static final Identifier BUTTON_SPRITE = Identifier.withDefaultNamespace("widget/button");
-    private static final Identifier BUTTON_DISABLED_SPRITE = Identifier.withDefaultNamespace("widget/button_disabled");
-    private static final Identifier BUTTON_HIGHLIGHTED_SPRITE = Identifier.withDefaultNamespace("widget/button_highlighted");
+public class FlatButtonWidget extends AbstractWidget implements RetainedWidget {
     
     private Component text;
     private Consumer<FlatButtonWidget> onClick;
@@ -37,6 +33,7 @@ public class FlatButtonWidget extends AbstractWidget {
     
     public void setText(Component text) {
         this.text = text;
+        markDirty();
     }
     
     public Component getText() {
@@ -45,14 +42,19 @@ public class FlatButtonWidget extends AbstractWidget {
     
     @Override
     protected void renderWidget(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        renderRetained(this, graphics);
+    }
+    
+    @Override
+    public void recordWidget(DrawList list) {
         if (this.theme.useVanillaWidgets()) {
-            renderVanillaButton(graphics, mouseX, mouseY);
+            recordVanillaButton(list);
         } else {
-            renderFlatButton(graphics, mouseX, mouseY);
+            recordFlatButton(list);
         }
     }
     
-    private void renderVanillaButton(GuiGraphicsExtractor graphics, int mouseX, int mouseY) {
+    private void recordVanillaButton(DrawList list) {
         var font = Minecraft.getInstance().font;
         
         // Select sprite based on state
@@ -70,16 +72,16 @@ public class FlatButtonWidget extends AbstractWidget {
         }
         
         // Draw the button using vanilla 9-slice sprite
-        graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, dim.x(), dim.y(), dim.width(), dim.height());
+        list.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, dim.x(), dim.y(), dim.width(), dim.height());
         
         // Draw text centered
-        int textWidth = font.width(this.text);
+        int textWidth = TextLayoutCache.width(font, this.text);
         int textX = dim.getCenterX() - (textWidth / 2);
         int textY = dim.getCenterY() - (font.lineHeight / 2);
-        graphics.text(font, this.text, textX, textY, textColor, true);
+        list.text(font, this.text, textX, textY, textColor, true);
     }
     
-    private void renderFlatButton(GuiGraphicsExtractor graphics, int mouseX, int mouseY) {
+    private void recordFlatButton(DrawList list) {
         int bgColor;
         int textColor;
         
@@ -95,21 +97,21 @@ public class FlatButtonWidget extends AbstractWidget {
         }
         
         // Draw background
-        fillRect(graphics, dim.x(), dim.y(), dim.width(), dim.height(), bgColor);
+        list.fill(dim.x(), dim.y(), dim.getLimitX(), dim.getLimitY(), bgColor);
         
         // Draw border
-        if (this.focused) {
-            drawRect(graphics, dim.x(), dim.y(), dim.width(), dim.height(), this.theme.accentPrimary());
-        } else {
-            drawRect(graphics, dim.x(), dim.y(), dim.width(), dim.height(), this.theme.buttonBorder());
-        }
+        int borderColor = this.focused ? this.theme.accentPrimary() : this.theme.buttonBorder();
+        list.fill(dim.x(), dim.y(), dim.getLimitX(), dim.y() + 1, borderColor);
+        list.fill(dim.x(), dim.getLimitY() - 1, dim.getLimitX(), dim.getLimitY(), borderColor);
+        list.fill(dim.x(), dim.y(), dim.x() + 1, dim.getLimitY(), borderColor);
+        list.fill(dim.getLimitX() - 1, dim.y(), dim.getLimitX(), dim.getLimitY(), borderColor);
         
         // Draw text centered
         var font = Minecraft.getInstance().font;
-        int textWidth = font.width(this.text);
+        int textWidth = TextLayoutCache.width(font, this.text);
         int textX = dim.getCenterX() - (textWidth / 2);
         int textY = dim.getCenterY() - (font.lineHeight / 2);
-        graphics.text(font, this.text, textX, textY, textColor, false);
+        list.text(font, this.text, textX, textY, textColor, false);
     }
     
     @Override
@@ -2,6 +2,7 @@ package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.network.chat.Component;
@@ -10,10 +11,10 @@ import net.minecraft.network.chat.Component;
  * A simple label widget that displays text without any interactive control.
  * Used for section headers or informational text within a category.
  */
-public class LabelWidget extends OptionWidget {
+public class LabelWidget extends OptionWidget implements RetainedWidget {
     
-    private final Component text;
-    private final LabelStyle style;
+    private Component text;
+    private LabelStyle style;
     
     public enum LabelStyle {
         /** Normal text, same as option labels */
@@ -34,8 +35,23 @@ public class LabelWidget extends OptionWidget {
         this.style = style;
     }
     
+    public void setText(Component text) {
+        this.text = text;
+        markDirty();
+    }
+    
+    public void setStyle(LabelStyle style) {
+        this.style = style;
+        markDirty();
+    }
+    
     @Override
     protected void renderWidget(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        renderRetained(this, graphics);
+    }
+    
+    @Override
+    public void recordWidget(DrawList list) {
         var font = Minecraft.getInstance().font;
         
         int textColor = getTextColor();
@@ -44,16 +60,16 @@ public class LabelWidget extends OptionWidget {
         
         if (style == LabelStyle.HEADER) {
             // Draw with slight emphasis - bold effect via double render
-            graphics.text(font, text, textX, textY, textColor, theme.useVanillaWidgets());
+            list.text(font, text, textX, textY, textColor, theme.useVanillaWidgets());
             if (!theme.useVanillaWidgets()) {
                 // Add subtle underline for headers
-                int textWidth = font.width(text);
+                int textWidth = TextLayoutCache.width(font, text);
                 int underlineY = textY + font.lineHeight + 1;
                 int underlineColor = (theme.accentPrimary() & 0x00FFFFFF) | 0x60000000;
-                fillRect(graphics, textX, underlineY, textWidth, 1, underlineColor);
+                list.fill(textX, underlineY, textX + textWidth, underlineY + 1, underlineColor);
             }
         } else {
-            graphics.text(font, text, textX, textY, textColor, theme.useVanillaWidgets());
+            list.text(font, text, textX, textY, textColor, theme.useVanillaWidgets());
         }
     }
     
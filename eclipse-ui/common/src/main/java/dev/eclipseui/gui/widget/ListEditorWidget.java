@@ -0,0 +1,638 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.util.Dim2i;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.client.gui.narration.NarratedElementType;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.network.chat.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An editor for list options.
+ * Entries are edited in a working copy and drawn straight from it, only the visible
+ * ones, so adding, removing and reordering never creates per-entry widgets. The binding
+ * receives a new list once, when the widget loses focus or the screen is saved or closed.
+ */
+public class ListEditorWidget<T> extends OptionWidget {
+    
+    /** Height of one entry in the list. */
+    public static final int ENTRY_HEIGHT = 12;
+    private static final int INPUT_HEIGHT = 14;
+    private static final int SPACING = 3;
+    private static final int BUTTON_WIDTH = 10;
+    
+    private static final String MOVE_UP = "▲";
+    private static final String MOVE_DOWN = "▼";
+    private static final String REMOVE = "×";
+    private static final String ADD = "+";
+    
+    private Supplier<List<T>> getter;
+    private Consumer<List<T>> setter;
+    private List<T> defaultValue = List.of();
+    private Function<String, T> parser;
+    private Function<T, String> formatter = String::valueOf;
+    private Predicate<T> entryValidator;
+    private Consumer<List<T>> onChange;
+    private Component placeholder;
+    
+    // Working copy of the list, written to the binding by commitPendingEdits
+    private final List<T> entries = new ArrayList<>();
+    private boolean pendingCommit = false;
+    private int selected = -1;
+    private int scrollEntry = 0;
+    
+    // Add-entry input state
+    private final StringBuilder input = new StringBuilder();
+    private boolean inputFocused = false;
+    private boolean inputRejected = false;
+    
+    // Bumped on every edit, used to invalidate the visible entry cache
+    private int editCount = 0;
+    
+    // Formatted, clipped text of the visible entries
+    private String[] visibleEntries = new String[0];
+    private int visibleFirstEntry = -1;
+    private int visibleEditCount = -1;
+    private int visibleWidth = -1;
+    
+    // Cursor blink
+    private int cursorBlinkTicks = 0;
+    
+    public ListEditorWidget(Dim2i dim, ThemeData theme, Component name) {
+        super(dim, theme, name);
+    }
+    
+    /**
+     * Row height needed to show the given number of entries.
+     */
+    public static int rowHeightFor(int entries) {
+        return Math.max(1, entries) * ENTRY_HEIGHT + 2 + SPACING + INPUT_HEIGHT + 4;
+    }
+    
+    public ListEditorWidget<T> binding(Supplier<List<T>> getter, Consumer<List<T>> setter) {
+        this.getter = getter;
+        this.setter = setter;
+        this.entries.clear();
+        this.entries.addAll(getter.get());
+        this.selected = -1;
+        this.scrollEntry = 0;
+        this.pendingCommit = false;
+        this.input.setLength(0);
+        this.inputRejected = false;
+        this.editCount++;
+        return this;
+    }
+    
+    public ListEditorWidget<T> defaultValue(List<T> defaultValue) {
+        this.defaultValue = defaultValue;
+        return this;
+    }
+    
+    public ListEditorWidget<T> parser(Function<String, T> parser) {
+        this.parser = parser;
+        return this;
+    }
+    
+    public ListEditorWidget<T> formatter(Function<T, String> formatter) {
+        this.formatter = formatter;
+        this.editCount++;
+        return this;
+    }
+    
+    public ListEditorWidget<T> entryValidator(Predicate<T> entryValidator) {
+        this.entryValidator = entryValidator;
+        return this;
+    }
+    
+    public ListEditorWidget<T> placeholder(Component placeholder) {
+        this.placeholder = placeholder;
+        return this;
+    }
+    
+    public ListEditorWidget<T> onChange(Consumer<List<T>> onChange) {
+        this.onChange = onChange;
+        return this;
+    }
+    
+    /**
+     * Get the working copy of the list, including edits not yet committed.
+     */
+    public List<T> getEntries() {
+        return Collections.unmodifiableList(this.entries);
+    }
+    
+    public void setValue(List<T> value) {
+        this.entries.clear();
+        this.entries.addAll(value);
+        this.selected = Math.min(this.selected, this.entries.size() - 1);
+        onEntriesEdited();
+        commitPendingEdits();
+    }
+    
+    /**
+     * Write the working copy to the binding, if it was edited since the last commit.
+     */
+    @Override
+    public void commitPendingEdits() {
+        if (!this.pendingCommit) {
+            return;
+        }
+        this.pendingCommit = false;
+        
+        List<T> oldValue = this.getter != null ? this.getter.get() : null;
+        if (this.entries.equals(oldValue)) {
+            return;
+        }
+        
+        List<T> value = new ArrayList<>(this.entries);
+        if (this.setter != null) {
+            this.setter.accept(value);
+        }
+        this.modified = true;
+        
+        if (this.onChange != null) {
+            this.onChange.accept(value);
+        }
+    }
+    
+    private void onEntriesEdited() {
+        this.editCount++;
+        this.modified = true;
+        this.pendingCommit = true;
+    }
+    
+    /**
+     * Parse and add every entry in the text, split on line breaks and commas.
+     * Entries that fail to parse or validate are skipped.
+     *
+     * @return the rejected entries joined by commas, empty if every entry was added
+     */
+    private String addEntries(String text) {
+        String[] parts = text.split("[\r\n,]");
+        List<T> parsed = new ArrayList<>(parts.length);
+        StringBuilder rejected = new StringBuilder();
+        for (String part : parts) {
+            String trimmed = part.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            T entry = parseEntry(trimmed);
+            if (entry != null) {
+                parsed.add(entry);
+            } else {
+                if (rejected.length() > 0) {
+                    rejected.append(", ");
+                }
+                rejected.append(trimmed);
+            }
+        }
+        
+        if (!parsed.isEmpty()) {
+            // One bulk insert after the selection, so a large paste shifts the tail only once
+            int index = this.selected >= 0 ? this.selected + 1 : this.entries.size();
+            this.entries.addAll(index, parsed);
+            this.selected = index + parsed.size() - 1;
+            onEntriesEdited();
+            revealEntry(this.selected);
+        }
+        return rejected.toString();
+    }
+    
+    private T parseEntry(String text) {
+        if (this.parser == null) {
+            return null;
+        }
+        T entry;
+        try {
+            entry = this.parser.apply(text);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (entry == null || (this.entryValidator != null && !this.entryValidator.test(entry))) {
+            return null;
+        }
+        return entry;
+    }
+    
+    private void removeSelected() {
+        if (this.selected < 0 || this.selected >= this.entries.size()) {
+            return;
+        }
+        this.entries.remove(this.selected);
+        this.selected = Math.min(this.selected, this.entries.size() - 1);
+        onEntriesEdited();
+    }
+    
+    private void moveSelected(int direction) {
+        int target = this.selected + direction;
+        if (this.selected < 0 || target < 0 || target >= this.entries.size()) {
+            return;
+        }
+        Collections.swap(this.entries, this.selected, target);
+        this.selected = target;
+        onEntriesEdited();
+        revealEntry(target);
+    }
+    
+    private void select(int index) {
+        if (this.entries.isEmpty()) {
+            this.selected = -1;
+            return;
+        }
+        this.selected = Math.max(0, Math.min(index, this.entries.size() - 1));
+        revealEntry(this.selected);
+    }
+    
+    private void revealEntry(int index) {
+        int slots = getVisibleEntryCount();
+        if (index < this.scrollEntry) {
+            this.scrollEntry = index;
+        } else if (index >= this.scrollEntry + slots) {
+            this.scrollEntry = index - slots + 1;
+        }
+    }
+    
+    private int getVisibleEntryCount() {
+        return Math.max(1, (dim.height() - rowHeightFor(1) + ENTRY_HEIGHT) / ENTRY_HEIGHT);
+    }
+    
+    private int getListY() {
+        return dim.y() + 2;
+    }
+    
+    private int getListHeight() {
+        return getVisibleEntryCount() * ENTRY_HEIGHT + 2;
+    }
+    
+    private int getInputY() {
+        return getListY() + getListHeight() + SPACING;
+    }
+    
+    @Override
+    protected void renderLabel(GuiGraphicsExtractor graphics) {
+        var font = Minecraft.getInstance().font;
+        Dim2i labelDim = getLabelDim();
+        
+        int textColor;
+        if (theme.useVanillaWidgets()) {
+            textColor = this.enabled ? 0xFFFFFFFF : 0xFF707070;
+        } else {
+            textColor = this.enabled ? this.theme.textPrimary() : this.theme.textDisabled();
+        }
+        
+        // Align with the first entry rather than the row center
+        int textY = labelDim.y() + 4;
+        int textX = labelDim.x() + (this.modified ? 12 : 4);
+        graphics.text(font, this.name, textX, textY, textColor, theme.useVanillaWidgets());
+        
+        int countColor = theme.useVanillaWidgets() ? 0xFFA0A0A0 : theme.textSecondary();
+        graphics.text(font, String.valueOf(this.entries.size()), textX, textY + ENTRY_HEIGHT, countColor, theme.useVanillaWidgets());
+    }
+    
+    @Override
+    protected void renderControl(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        Dim2i controlDim = getControlDim();
+        var font = Minecraft.getInstance().font;
+        
+        int listX = controlDim.x();
+        int listY = getListY();
+        int listWidth = controlDim.width() - 4;
+        int listHeight = getListHeight();
+        int slots = getVisibleEntryCount();
+        
+        renderBox(graphics, listX, listY, listWidth, listHeight, this.focused && !this.inputFocused, false);
+        
+        this.scrollEntry = Math.max(0, Math.min(this.scrollEntry, this.entries.size() - slots));
+        
+        int textColor;
+        if (theme.useVanillaWidgets()) {
+            textColor = this.enabled ? 0xFFE0E0E0 : 0xFF707070;
+        } else {
+            textColor = this.enabled ? theme.textPrimary() : theme.textDisabled();
+        }
+        int highlightColor = theme.useVanillaWidgets() ? 0x40FFFFFF : theme.categorySelected();
+        int buttonColor = theme.useVanillaWidgets() ? 0xFFA0A0A0 : theme.textSecondary();
+        int buttonHoverColor = theme.useVanillaWidgets() ? 0xFFFFFFFF : theme.accentPrimary();
+        
+        // Entry text is clipped to leave room for the selected entry's buttons
+        int textWidth = listWidth - 8 - BUTTON_WIDTH * 3;
+        String[] texts = getVisibleEntries(slots, textWidth);
+        for (int i = 0; i < texts.length && texts[i] != null; i++) {
+            int index = this.scrollEntry + i;
+            int entryY = listY + 1 + i * ENTRY_HEIGHT;
+            if (index == this.selected) {
+                fillRect(graphics, listX + 1, entryY, listWidth - 2, ENTRY_HEIGHT, highlightColor);
+                int buttonX = listX + listWidth - 2 - BUTTON_WIDTH * 3;
+                String[] glyphs = {MOVE_UP, MOVE_DOWN, REMOVE};
+                for (String glyph : glyphs) {
+                    boolean hovered = mouseX >= buttonX && mouseX < buttonX + BUTTON_WIDTH
+                        && mouseY >= entryY && mouseY < entryY + ENTRY_HEIGHT;
+                    graphics.text(font, glyph, buttonX + 2, entryY + 2, hovered ? buttonHoverColor : buttonColor, false);
+                    buttonX += BUTTON_WIDTH;
+                }
+            }
+            graphics.text(font, texts[i], listX + 4, entryY + 2, textColor, theme.useVanillaWidgets());
+        }
+        
+        // Scroll indicator
+        int count = this.entries.size();
+        if (count > slots) {
+            int trackHeight = listHeight - 2;
+            int thumbHeight = Math.max(8, trackHeight * slots / count);
+            int thumbY = listY + 1 + (trackHeight - thumbHeight) * this.scrollEntry / (count - slots);
+            int thumbColor = theme.useVanillaWidgets() ? 0xFF808080 : theme.scrollbarThumb();
+            fillRect(graphics, listX + listWidth - 3, thumbY, 2, thumbHeight, thumbColor);
+        }
+        
+        // Add-entry input with its button
+        int inputY = getInputY();
+        int inputWidth = listWidth - BUTTON_WIDTH - 4;
+        renderBox(graphics, listX, inputY, inputWidth, INPUT_HEIGHT, this.inputFocused, this.inputRejected);
+        
+        int textY = inputY + (INPUT_HEIGHT - 8) / 2;
+        if (this.input.length() == 0 && this.placeholder != null && !this.inputFocused) {
+            int placeholderColor = theme.useVanillaWidgets() ? 0xFF707070 : theme.textDisabled();
+            graphics.text(font, this.placeholder, listX + 4, textY, placeholderColor, theme.useVanillaWidgets());
+        } else {
+            // Keep the end of the input in view, that is where typing happens
+            String shown = font.plainSubstrByWidth(this.input.toString(), inputWidth - 10, true);
+            graphics.text(font, shown, listX + 4, textY, textColor, theme.useVanillaWidgets());
+            if (this.inputFocused && this.cursorBlinkTicks / 6 % 2 == 0) {
+                int cursorX = listX + 4 + font.width(shown);
+                graphics.fill(cursorX, textY - 1, cursorX + 1, textY + font.lineHeight, theme.textPrimary());
+            }
+        }
+        
+        int addX = listX + listWidth - BUTTON_WIDTH;
+        boolean addHovered = mouseX >= addX && mouseX < addX + BUTTON_WIDTH
+            && mouseY >= inputY && mouseY < inputY + INPUT_HEIGHT;
+        graphics.text(font, ADD, addX + 2, textY, addHovered ? buttonHoverColor : buttonColor, theme.useVanillaWidgets());
+        
+        this.cursorBlinkTicks++;
+    }
+    
+    private void renderBox(GuiGraphicsExtractor graphics, int x, int y, int width, int height, boolean focused, boolean invalid) {
+        if (theme.useVanillaWidgets()) {
+            int outerBorderColor = invalid ? 0xFFFF5555 : focused ? 0xFFFFFFFF : 0xFFA0A0A0;
+            graphics.fill(x - 1, y - 1, x + width + 1, y + height + 1, outerBorderColor);
+            graphics.fill(x, y, x + width, y + height, 0xFF000000);
+        } else {
+            fillRect(graphics, x, y, width, height, theme.inputBackground());
+            int borderColor = invalid ? 0xFFFF5555 : focused ? theme.inputBorderFocused() : theme.inputBorder();
+            drawRect(graphics, x, y, width, height, borderColor);
+        }
+    }
+    
+    /**
+     * Get the visible entries, formatted and clipped to the list width, rebuilding them
+     * only after an edit, scroll or resize.
+     */
+    private String[] getVisibleEntries(int slots, int textWidth) {
+        if (this.visibleEntries.length != slots) {
+            this.visibleEntries = new String[slots];
+            this.visibleFirstEntry = -1;
+        }
+        if (this.visibleFirstEntry != this.scrollEntry || this.visibleEditCount != this.editCount
+            || this.visibleWidth != textWidth) {
+            var font = Minecraft.getInstance().font;
+            for (int i = 0; i < slots; i++) {
+                int index = this.scrollEntry + i;
+                this.visibleEntries[i] = index < this.entries.size()
+                    ? font.plainSubstrByWidth(this.formatter.apply(this.entries.get(index)), textWidth)
+                    : null;
+            }
+            this.visibleFirstEntry = this.scrollEntry;
+            this.visibleEditCount = this.editCount;
+            this.visibleWidth = textWidth;
+        }
+        return this.visibleEntries;
+    }
+    
+    @Override
+    protected boolean onMouseClicked(double mouseX, double mouseY, int button) {
+        if (button != 0 || !this.enabled) {
+            return false;
+        }
+        Dim2i controlDim = getControlDim();
+        int listX = controlDim.x();
+        int listWidth = controlDim.width() - 4;
+        if (mouseX < listX || mouseX >= listX + listWidth) {
+            this.setFocused(false);
+            return false;
+        }
+        
+        int listY = getListY();
+        int inputY = getInputY();
+        if (mouseY >= listY && mouseY < listY + getListHeight()) {
+            this.inputFocused = false;
+            this.setFocused(true);
+            
+            int index = this.scrollEntry + ((int) mouseY - listY - 1) / ENTRY_HEIGHT;
+            if (index >= this.entries.size()) {
+                return true;
+            }
+            if (index == this.selected) {
+                int buttonX = listX + listWidth - 2 - BUTTON_WIDTH * 3;
+                if (mouseX >= buttonX) {
+                    switch (((int) mouseX - buttonX) / BUTTON_WIDTH) {
+                        case 0 -> moveSelected(-1);
+                        case 1 -> moveSelected(1);
+                        default -> removeSelected();
+                    }
+                    return true;
+                }
+            }
+            this.selected = index;
+            return true;
+        }
+        
+        if (mouseY >= inputY && mouseY < inputY + INPUT_HEIGHT) {
+            this.inputFocused = true;
+            this.setFocused(true); // Also set widget focus for key event forwarding
+            this.cursorBlinkTicks = 0;
+            if (mouseX >= listX + listWidth - BUTTON_WIDTH) {
+                submitInput();
+            }
+            return true;
+        }
+        
+        this.setFocused(false);
+        return false;
+    }
+    
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
+        int slots = getVisibleEntryCount();
+        if (!this.dim.containsCursor(mouseX, mouseY) || this.entries.size() <= slots) {
+            return false;
+        }
+        int maxScroll = this.entries.size() - slots;
+        this.scrollEntry = Math.max(0, Math.min(this.scrollEntry - (int) Math.signum(verticalAmount) * 3, maxScroll));
+        return true;
+    }
+    
+    @Override
+    protected boolean onKeyPressed(int keyCode, int scanCode, int modifiers) {
+        if (!this.focused || !this.enabled) {
+            return false;
+        }
+        
+        boolean ctrl = (modifiers & 2) != 0; // GLFW_MOD_CONTROL
+        boolean reorder = (modifiers & 5) != 0; // GLFW_MOD_SHIFT or GLFW_MOD_ALT
+        
+        if (this.inputFocused) {
+            switch (keyCode) {
+                case 257, 335: // Enter, Numpad Enter
+                    submitInput();
+                    return true;
+                
+                case 259: // Backspace
+                    if (this.input.length() > 0) {
+                        this.input.setLength(this.input.length() - 1);
+                        this.inputRejected = false;
+                    }
+                    return true;
+                
+                case 265: // Up arrow, back to the list
+                    this.inputFocused = false;
+                    select(this.entries.size() - 1);
+                    return true;
+                
+                case 86: // V (paste)
+                    if (ctrl) {
+                        String clipboard = Minecraft.getInstance().keyboardHandler.getClipboard();
+                        if (clipboard.indexOf('\n') >= 0 || clipboard.indexOf(',') >= 0) {
+                            // Several entries at once, added in one batch
+                            String rejected = addEntries(clipboard);
+                            this.input.setLength(0);
+                            this.input.append(rejected);
+                            this.inputRejected = !rejected.isEmpty();
+                        } else {
+                            this.input.append(clipboard.trim());
+                        }
+                        return true;
+                    }
+                    break;
+            }
+            return false;
+        }
+        
+        switch (keyCode) {
+            case 265: // Up arrow
+                if (reorder) {
+                    moveSelected(-1);
+                } else {
+                    select(this.selected - 1);
+                }
+                return true;
+            
+            case 264: // Down arrow
+                if (reorder) {
+                    moveSelected(1);
+                } else if (this.selected >= this.entries.size() - 1) {
+                    this.inputFocused = true;
+                    this.cursorBlinkTicks = 0;
+                } else {
+                    select(this.selected + 1);
+                }
+                return true;
+            
+            case 266: // Page up
+                select(this.selected - getVisibleEntryCount());
+                return true;
+            
+            case 267: // Page down
+                select(this.selected + getVisibleEntryCount());
+                return true;
+            
+            case 268: // Home
+                select(0);
+                return true;
+            
+            case 269: // End
+                select(this.entries.size() - 1);
+                return true;
+            
+            case 259, 261: // Backspace, Delete
+                removeSelected();
+                return true;
+            
+            case 257, 335: // Enter, Numpad Enter
+                this.inputFocused = true;
+                this.cursorBlinkTicks = 0;
+                return true;
+            
+            case 67: // C (copy)
+                if (ctrl && this.selected >= 0) {
+                    Minecraft.getInstance().keyboardHandler.setClipboard(this.formatter.apply(this.entries.get(this.selected)));
+                    return true;
+                }
+                break;
+        }
+        
+        return false;
+    }
+    
+    @Override
+    protected boolean onCharTyped(char chr, int modifiers) {
+        if (!this.inputFocused || !this.enabled) {
+            return false;
+        }
+        
+        if (Character.isISOControl(chr)) {
+            return false;
+        }
+        
+        this.input.append(chr);
+        this.inputRejected = false;
+        this.cursorBlinkTicks = 0;
+        return true;
+    }
+    
+    private void submitInput() {
+        if (this.input.length() == 0) {
+            return;
+        }
+        // Rejected entries stay in the input so they can be corrected
+        String rejected = addEntries(this.input.toString());
+        this.input.setLength(0);
+        this.input.append(rejected);
+        this.inputRejected = !rejected.isEmpty();
+    }
+    
+    @Override
+    public void setFocused(boolean focused) {
+        super.setFocused(focused);
+        if (!focused) {
+            this.inputFocused = false;
+            commitPendingEdits();
+        }
+    }
+    
+    @Override
+    public void resetToDefault() {
+        setValue(this.defaultValue);
+        this.selected = -1;
+        this.scrollEntry = 0;
+        this.input.setLength(0);
+        this.inputRejected = false;
+        this.modified = false;
+    }
+    
+    @Override
+    public void updateNarration(NarrationElementOutput output) {
+        output.add(NarratedElementType.TITLE, this.name);
+        if (this.selected >= 0 && this.selected < this.entries.size()) {
+            output.add(NarratedElementType.USAGE, Component.literal(this.formatter.apply(this.entries.get(this.selected))));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.api.function.BooleanConsumer;
+import dev.eclipseui.util.Dim2i;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight model for a single config entry.
+ * Holds everything needed to configure a row widget, so the option list only has to
+ * keep widgets for the rows in view and can re-bind recycled widgets as rows scroll in.
+ *
+ * @param <W> the row widget type this option is displayed with
+ */
+public abstract class OptionDescriptor<W extends OptionWidget> {
+    
+    protected Component name = Component.empty();
+    protected @Nullable Component description;
+    protected boolean requiresRestart = false;
+    protected int rowHeight = OptionListWidget.ITEM_HEIGHT;
+    
+    private boolean modified = false;
+    private @Nullable W widget;
+    
+    // Position in the owning option list, maintained by OptionListWidget
+    int rowIndex = -1;
+    
+    // Screen-wide buffer that edits are staged in, and this option's slot in it
+    private @Nullable EditBuffer edits;
+    private int editSlot = -1;
+    
+    /**
+     * Key for the widget pool. Descriptors returning the same type share recycled widgets.
+     */
+    public abstract Class<?> widgetType();
+    
+    /**
+     * Create a new, unbound row widget for this type of option.
+     */
+    protected abstract W createWidget(Dim2i dim, ThemeData theme);
+    
+    /**
+     * Apply this option's bindings and settings to a (possibly recycled) widget.
+     * Every property must be set, since the widget may still hold another option's state.
+     */
+    protected abstract void bind(W widget);
+    
+    public Component getName() {
+        return this.name;
+    }
+    
+    public @Nullable Component getDescription() {
+        return this.description;
+    }
+    
+    public boolean requiresRestart() {
+        return this.requiresRestart;
+    }
+    
+    /**
+     * Height of this option's row in the option list, including row padding.
+     */
+    public int getRowHeight() {
+        return this.rowHeight;
+    }
+    
+    /**
+     * Set the row height. Use {@link OptionListWidget#setRowHeight} for options that are
+     * already in a list, so the list layout is updated too.
+     */
+    public void setRowHeight(int rowHeight) {
+        this.rowHeight = Math.max(0, rowHeight);
+    }
+    
+    public boolean isModified() {
+        return this.widget != null ? this.widget.isModified() : this.modified;
+    }
+    
+    public void setModified(boolean modified) {
+        this.modified = modified;
+        if (this.widget != null) {
+            this.widget.setModified(modified);
+        }
+    }
+    
+    /**
+     * Get the widget currently displaying this option, or null if it is not bound.
+     */
+    public @Nullable W getWidget() {
+        return this.widget;
+    }
+    
+    public boolean isBound() {
+        return this.widget != null;
+    }
+    
+    /**
+     * Stage edits in a buffer instead of writing them to the binding straight away.
+     * Takes effect for widgets bound after this call.
+     */
+    public void setEditBuffer(@Nullable EditBuffer edits) {
+        if (edits != this.edits) {
+            this.edits = edits;
+            this.editSlot = -1;
+        }
+    }
+    
+    private int editSlot() {
+        if (this.editSlot < 0) {
+            this.editSlot = this.edits.register(this);
+        }
+        return this.editSlot;
+    }
+    
+    /**
+     * Set this option's binding to its default value without going through a widget, so no
+     * change callback fires. The value is staged if there is an edit buffer.
+     * Bound widgets must be re-bound afterwards to show it.
+     */
+    public void stageDefault() {
+    }
+    
+    // Binding wrappers for bind(). Without an edit buffer they return the binding itself;
+    // otherwise the getter reads the staged value if there is one, and the setter stages
+    // the value, marking it dirty only if it differs from the binding.
+    
+    protected final BooleanSupplier stagedGetter(BooleanSupplier getter) {
+        if (this.edits == null) {
+            return getter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        return () -> edits.isDirty(slot) ? edits.getBoolean(slot) : getter.getAsBoolean();
+    }
+    
+    protected final BooleanConsumer stagedSetter(BooleanSupplier getter, BooleanConsumer setter) {
+        if (this.edits == null) {
+            return setter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        edits.setApplier(slot, () -> setter.accept(edits.getBoolean(slot)));
+        return value -> edits.putBoolean(slot, value, value != getter.getAsBoolean());
+    }
+    
+    protected final IntSupplier stagedGetter(IntSupplier getter) {
+        if (this.edits == null) {
+            return getter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        return () -> edits.isDirty(slot) ? edits.getInt(slot) : getter.getAsInt();
+    }
+    
+    protected final IntConsumer stagedSetter(IntSupplier getter, IntConsumer setter) {
+        if (this.edits == null) {
+            return setter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        edits.setApplier(slot, () -> setter.accept(edits.getInt(slot)));
+        return value -> edits.putInt(slot, value, value != getter.getAsInt());
+    }
+    
+    protected final DoubleSupplier stagedGetter(DoubleSupplier getter) {
+        if (this.edits == null) {
+            return getter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        return () -> edits.isDirty(slot) ? edits.getDouble(slot) : getter.getAsDouble();
+    }
+    
+    protected final DoubleConsumer stagedSetter(DoubleSupplier getter, DoubleConsumer setter) {
+        if (this.edits == null) {
+            return setter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        edits.setApplier(slot, () -> setter.accept(edits.getDouble(slot)));
+        return value -> edits.putDouble(slot, value, value != getter.getAsDouble());
+    }
+    
+    @SuppressWarnings("unchecked")
+    protected final <T> Supplier<T> stagedGetter(Supplier<T> getter) {
+        if (this.edits == null || getter == null) {
+            return getter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        return () -> edits.isDirty(slot) ? (T) edits.getObject(slot) : getter.get();
+    }
+    
+    @SuppressWarnings("unchecked")
+    protected final <T> Consumer<T> stagedSetter(Supplier<T> getter, Consumer<T> setter) {
+        if (this.edits == null || getter == null || setter == null) {
+            return setter;
+        }
+        EditBuffer edits = this.edits;
+        int slot = editSlot();
+        edits.setApplier(slot, () -> setter.accept((T) edits.getObject(slot)));
+        return value -> edits.putObject(slot, value, !Objects.equals(value, getter.get()));
+    }
+    
+    @SuppressWarnings("unchecked")
+    final W attach(OptionWidget widget) {
+        W typed = (W) widget;
+        typed.setName(this.name);
+        bind(typed);
+        typed.setDescription(this.description);
+        typed.setRequiresRestart(this.requiresRestart);
+        typed.setModified(this.modified);
+        this.widget = typed;
+        return typed;
+    }
+    
+    final @Nullable W detach() {
+        W typed = this.widget;
+        if (typed != null) {
+            this.modified = typed.isModified();
+            typed.setFocused(false);
+            this.widget = null;
+        }
+        return typed;
+    }
+}
@@ -0,0 +1,97 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.util.NgramIndex;
+import dev.eclipseui.util.SearchIndex;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Filters the rows of an option list by a query that is typed one character at a time.
+ * A row matches when every query word occurs in its name or description. Extending a query
+ * can only remove matches, so each result is computed from the result of the longest cached
+ * prefix, testing only the rows that survived it. Backspacing returns a cached result.
+ */
+final class OptionFilter {
+    
+    // Results kept per query prefix; each costs one bit per row
+    private static final int MAX_LEVELS = 16;
+    
+    private final List<OptionDescriptor<?>> options;
+    private final String[] texts;
+    
+    // Cached results, longest query on top; each query is a prefix of the one above it
+    private final ArrayDeque<Level> levels = new ArrayDeque<>();
+    
+    OptionFilter(List<OptionDescriptor<?>> options) {
+        this.options = options;
+        this.texts = new String[options.size()];
+    }
+    
+    /**
+     * Rows matching the query. The returned set is cached and must not be modified.
+     */
+    BitSet update(String query) {
+        String folded = NgramIndex.fold(query.strip());
+        
+        // Drop results of longer or diverging queries, what is left narrows to the new one
+        while (!this.levels.isEmpty() && !folded.startsWith(this.levels.peek().query())) {
+            this.levels.pop();
+        }
+        Level base = this.levels.peek();
+        if (base != null && base.query().equals(folded)) {
+            return base.matches();
+        }
+        
+        List<String> words = SearchIndex.tokenize(folded);
+        BitSet matches = new BitSet(this.texts.length);
+        if (base == null) {
+            for (int i = 0; i < this.texts.length; i++) {
+                if (matchesAll(i, words)) {
+                    matches.set(i);
+                }
+            }
+        } else {
+            BitSet candidates = base.matches();
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                if (matchesAll(i, words)) {
+                    matches.set(i);
+                }
+            }
+        }
+        
+        this.levels.push(new Level(folded, matches));
+        if (this.levels.size() > MAX_LEVELS) {
+            this.levels.removeLast();
+        }
+        return matches;
+    }
+    
+    private boolean matchesAll(int row, List<String> words) {
+        String text = text(row);
+        for (String word : words) {
+            if (!text.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // Folded name and description of a row, built on first use
+    private String text(int row) {
+        String text = this.texts[row];
+        if (text == null) {
+            OptionDescriptor<?> option = this.options.get(row);
+            String name = option.getName().getString();
+            text = option.getDescription() != null
+                ? NgramIndex.fold(name + "\n" + option.getDescription().getString())
+                : NgramIndex.fold(name);
+            this.texts[row] = text;
+        }
+        return text;
+    }
+    
+    private record Level(String query, BitSet matches) {
+    }
+}
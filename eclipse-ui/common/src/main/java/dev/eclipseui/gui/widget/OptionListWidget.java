@@ -2,24 +2,64 @@ package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.FenwickTree;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.chat.Component;
 import net.minecraft.util.Mth;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A scrollable list of option widgets.
+ * Options are held as {@link OptionDescriptor}s; only the rows inside the visible window
+ * are bound to widgets, which are recycled from a per-type pool as rows scroll in and out.
+ * Rows can have different heights; their offsets are kept in a prefix-sum index so
+ * visible-range lookup, hit-testing and scroll-to-row stay O(log n).
+ * Row widgets are laid out once in content coordinates (as if scrolled to the top);
+ * scrolling is applied as a single pose translation when rendering, and mouse
+ * coordinates are moved into content space once per event.
+ * Pointer/keyboard events are routed to the tracked focused or captured row.
  */
 public class OptionListWidget extends AbstractWidget {
     
-    private final List<OptionWidget> options = new ArrayList<>();
+    private final List<OptionDescriptor<?>> options = new ArrayList<>();
+    private final FenwickTree rowHeights = new FenwickTree();
     private double scrollOffset = 0;
     private double targetScrollOffset = 0;
     private boolean scrolling = false;
     private int scrollbarDragOffset = 0;
     
-    private static final int ITEM_HEIGHT = 24;
+    // Row recycling
+    private final List<OptionDescriptor<?>> boundRows = new ArrayList<>();
+    private final Map<Class<?>, ArrayDeque<OptionWidget>> widgetPool = new HashMap<>();
+    private @Nullable Screen hostScreen;
+    private @Nullable EditBuffer edits;
+    
+    // Tracked rows so events don't need to scan the whole list.
+    // Rows referenced here stay bound even when scrolled out of view.
+    private int focusedIndex = -1;
+    private int capturedIndex = -1;
+    private int expandedIndex = -1;
+    private @Nullable OptionWidget hoveredOption;
+    
+    // Row briefly highlighted after jumping to it, e.g. from a search result
+    private int flashIndex = -1;
+    private long flashStartMillis;
+    private static final long FLASH_MILLIS = 1200;
+    
+    // Rows matching the filter query, null when unfiltered; hidden rows have zero height
+    private @Nullable OptionFilter filter;
+    private @Nullable BitSet shownRows;
+    
+    public static final int ITEM_HEIGHT = 24;
     private static final int SCROLLBAR_WIDTH = 6;
     private static final int ITEM_PADDING = 2;
     private static final float SCROLL_SPEED = 0.3f;
@@ -29,35 +69,305 @@ public class OptionListWidget extends AbstractWidget {
         super(dim, theme);
     }
     
-    public void addOption(OptionWidget option) {
-        // Reposition the option within the list
-        int y = options.size() * ITEM_HEIGHT;
-        int width = dim.width() - SCROLLBAR_WIDTH - 4;
-        option.setDim(new Dim2i(dim.x() + 2, dim.y() + y, width, ITEM_HEIGHT - ITEM_PADDING));
+    public void addOption(OptionDescriptor<?> option) {
+        // A widget left attached by another list would be reused without being tracked here
+        option.detach();
+        option.setEditBuffer(edits);
+        option.rowIndex = options.size();
         options.add(option);
+        rowHeights.add(option.getRowHeight());
+        
+        // A new row invalidates the cached filter results
+        if (filter != null) {
+            filter = null;
+            shownRows = null;
+        }
+    }
+    
+    /**
+     * Change the height of a row, e.g. when an inline editor expands.
+     * Rows below it move accordingly; the scroll position is kept in range.
+     */
+    public void setRowHeight(int index, int height) {
+        OptionDescriptor<?> option = options.get(index);
+        option.setRowHeight(height);
+        rowHeights.set(index, isShown(index) ? option.getRowHeight() : 0);
+        targetScrollOffset = Mth.clamp(targetScrollOffset, 0, getMaxScroll());
+        scrollOffset = Mth.clamp(scrollOffset, 0, getMaxScroll());
+    }
+    
+    /**
+     * Get the offset of a row from the top of the list content.
+     */
+    public int getRowTop(int index) {
+        return rowHeights.prefixSum(index);
+    }
+    
+    /**
+     * Scroll so the given row is at the top of the viewport (or as close as the content allows).
+     */
+    public void scrollToRow(int index) {
+        if (index < 0 || index >= options.size()) {
+            return;
+        }
+        targetScrollOffset = Mth.clamp(getRowTop(index), 0, getMaxScroll());
+    }
+    
+    /**
+     * Briefly highlight a row, to point it out after scrolling to it.
+     */
+    public void flashRow(int index) {
+        flashIndex = index;
+        flashStartMillis = System.currentTimeMillis();
+    }
+    
+    /**
+     * Show only the rows whose name or description contains every word of the query.
+     * A blank query shows all rows. Meant to be called on every keystroke: a query that
+     * extends the previous one only re-tests the rows that matched it.
+     */
+    public void setFilter(String query) {
+        BitSet previous = shownRows;
+        if (query.isBlank()) {
+            shownRows = null;
+        } else {
+            if (filter == null) {
+                filter = new OptionFilter(options);
+            }
+            shownRows = filter.update(query);
+        }
+        if (previous == shownRows) {
+            return;
+        }
+        
+        // Only rows whose visibility flipped need a new height
+        BitSet changed = new BitSet(options.size());
+        changed.set(0, options.size());
+        if (previous != null && shownRows != null) {
+            changed = (BitSet) previous.clone();
+            changed.xor(shownRows);
+        } else if (previous != null) {
+            changed.andNot(previous);
+        } else if (shownRows != null) {
+            changed.andNot(shownRows);
+        }
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            rowHeights.set(i, isShown(i) ? options.get(i).getRowHeight() : 0);
+        }
+        
+        if (!isShown(focusedIndex)) {
+            clearFocus();
+        }
+        OptionWidget expanded = getExpandedOption();
+        if (expanded != null && !isShown(expandedIndex)) {
+            expanded.closeExpanded();
+            expandedIndex = -1;
+        }
+        scrollOffset = 0;
+        targetScrollOffset = 0;
+    }
+    
+    /**
+     * Whether a row passes the current filter.
+     */
+    public boolean isShown(int index) {
+        return shownRows == null || index < 0 || shownRows.get(index);
     }
     
     public void clearOptions() {
+        for (OptionDescriptor<?> option : boundRows) {
+            releaseWidget(option);
+        }
+        boundRows.clear();
         options.clear();
+        rowHeights.clear();
         scrollOffset = 0;
         targetScrollOffset = 0;
+        focusedIndex = -1;
+        capturedIndex = -1;
+        expandedIndex = -1;
+        flashIndex = -1;
+        filter = null;
+        shownRows = null;
+        hoveredOption = null;
     }
     
-    public List<OptionWidget> getOptions() {
+    public List<OptionDescriptor<?>> getOptions() {
         return options;
     }
+    
+    /**
+     * Set the buffer that options added from now on stage their edits in.
+     */
+    public void setEditBuffer(@Nullable EditBuffer edits) {
+        this.edits = edits;
+    }
+    
+    /**
+     * Set the screen passed on to bound row widgets (used to open child screens).
+     */
+    public void setHostScreen(@Nullable Screen hostScreen) {
+        this.hostScreen = hostScreen;
+        for (OptionDescriptor<?> option : boundRows) {
+            OptionWidget widget = option.getWidget();
+            if (widget != null) {
+                widget.setHostScreen(hostScreen);
+            }
+        }
+    }
 
     public boolean hasExpandedOverlay() {
-        for (OptionWidget option : options) {
-            if (option.isExpanded()) {
-                return true;
+        return getExpandedOption() != null;
+    }
+    
+    /**
+     * Get the option currently under the cursor, as of the last rendered frame.
+     */
+    public @Nullable OptionWidget getHoveredOption() {
+        return hoveredOption;
+    }
+    
+    private @Nullable OptionWidget getBoundWidget(int index) {
+        return index >= 0 && index < options.size() ? options.get(index).getWidget() : null;
+    }
+    
+    private @Nullable OptionWidget getExpandedOption() {
+        OptionWidget widget = getBoundWidget(expandedIndex);
+        if (widget == null || !widget.isExpanded()) {
+            expandedIndex = -1;
+            return null;
+        }
+        return widget;
+    }
+    
+    /**
+     * Remember the row if it opened an overlay while handling an event.
+     */
+    private void trackExpanded(int index, OptionWidget option) {
+        if (option.isExpanded()) {
+            expandedIndex = index;
+        }
+    }
+    
+    private void clearFocus() {
+        OptionWidget focused = getBoundWidget(focusedIndex);
+        if (focused != null) {
+            focused.setFocused(false);
+        }
+        focusedIndex = -1;
+    }
+    
+    private boolean isPinned(int index) {
+        return index == focusedIndex || index == capturedIndex || index == expandedIndex;
+    }
+    
+    /**
+     * Index of the first row that intersects the viewport.
+     */
+    private int getFirstVisibleIndex() {
+        return rowHeights.findIndex((int) scrollOffset);
+    }
+    
+    /**
+     * Index of the last row that intersects the viewport (inclusive).
+     */
+    private int getLastVisibleIndex() {
+        return Math.min(options.size() - 1, rowHeights.findIndex((int) scrollOffset + dim.height()));
+    }
+    
+    /**
+     * Get the widget for a row, binding a pooled widget if the row has none,
+     * and move it to its on-screen position.
+     */
+    private OptionWidget bindRow(int index) {
+        return bindRow(index, getRowTop(index));
+    }
+    
+    private OptionWidget bindRow(int index, int rowTop) {
+        OptionDescriptor<?> option = options.get(index);
+        OptionWidget widget = option.getWidget();
+        if (widget == null) {
+            widget = option.attach(acquireWidget(option));
+            boundRows.add(option);
+        }
+        
+        // Content coordinates only change when row heights change, not on scroll
+        int itemX = dim.x() + 2;
+        int itemY = dim.y() + rowTop;
+        int itemWidth = getRowWidth();
+        int itemHeight = Math.max(0, option.getRowHeight() - ITEM_PADDING);
+        Dim2i optionDim = widget.getDim();
+        if (optionDim.x() != itemX || optionDim.y() != itemY || optionDim.width() != itemWidth || optionDim.height() != itemHeight) {
+            widget.setDim(new Dim2i(itemX, itemY, itemWidth, itemHeight));
+        }
+        widget.setScreenOffsetY(-getScrollPixels());
+        return widget;
+    }
+    
+    /**
+     * Release rows that left the visible window and bind the ones that entered it.
+     */
+    private void syncBoundRows(int first, int last) {
+        for (int i = boundRows.size() - 1; i >= 0; i--) {
+            OptionDescriptor<?> option = boundRows.get(i);
+            int index = option.rowIndex;
+            if ((index < first || index > last || !isShown(index)) && !isPinned(index)) {
+                // Swap-remove, order doesn't matter
+                int lastSlot = boundRows.size() - 1;
+                boundRows.set(i, boundRows.get(lastSlot));
+                boundRows.remove(lastSlot);
+                releaseWidget(option);
+            }
+        }
+        
+        int rowTop = getRowTop(first);
+        for (int i = first; i <= last; i++) {
+            if (isShown(i)) {
+                bindRow(i, rowTop);
+                rowTop += options.get(i).getRowHeight();
             }
         }
-        return false;
+    }
+    
+    private OptionWidget acquireWidget(OptionDescriptor<?> option) {
+        ArrayDeque<OptionWidget> pool = widgetPool.get(option.widgetType());
+        OptionWidget widget = pool != null ? pool.poll() : null;
+        if (widget == null) {
+            widget = option.createWidget(new Dim2i(dim.x() + 2, dim.y(), getRowWidth(), ITEM_HEIGHT - ITEM_PADDING), theme);
+        }
+        widget.setHostScreen(hostScreen);
+        return widget;
+    }
+    
+    private int getRowWidth() {
+        return dim.width() - SCROLLBAR_WIDTH - 4;
+    }
+    
+    private void releaseWidget(OptionDescriptor<?> option) {
+        OptionWidget widget = option.detach();
+        if (widget != null) {
+            // Text typed into a row that scrolls away must not be lost when the widget is rebound
+            widget.commitPendingEdits();
+            widgetPool.computeIfAbsent(option.widgetType(), type -> new ArrayDeque<>()).push(widget);
+        }
+    }
+    
+    /**
+     * The scroll offset applied to rows, snapped to whole pixels.
+     */
+    private int getScrollPixels() {
+        return (int) scrollOffset;
+    }
+    
+    /**
+     * Convert a screen Y coordinate into content coordinates.
+     */
+    private double toContentY(double mouseY) {
+        return mouseY + getScrollPixels();
     }
     
     private int getContentHeight() {
-        return options.size() * ITEM_HEIGHT;
+        return rowHeights.total();
     }
     
     private int getMaxScroll() {
@@ -90,26 +400,37 @@ public class OptionListWidget extends AbstractWidget {
         // Enable scissoring for clipping
         graphics.enableScissor(dim.x(), dim.y(), dim.getLimitX(), dim.getLimitY());
         
-        // Render visible options
-        int scrollOffsetInt = (int) scrollOffset;
-        for (int i = 0; i < options.size(); i++) {
-            OptionWidget option = options.get(i);
-            
-            // Calculate actual Y position with scroll offset
-            int itemY = dim.y() + (i * ITEM_HEIGHT) - scrollOffsetInt;
-            
-            // Skip if not visible
-            if (itemY + ITEM_HEIGHT < dim.y() || itemY > dim.getLimitY()) {
+        // Render only the rows inside the visible window
+        int first = getFirstVisibleIndex();
+        int last = getLastVisibleIndex();
+        syncBoundRows(first, last);
+        
+        // Rows outside the viewport must not see the cursor, so move it out of reach
+        hoveredOption = null;
+        boolean cursorInside = dim.containsCursor(mouseX, mouseY);
+        int contentMouseY = cursorInside ? (int) toContentY(mouseY) : Integer.MIN_VALUE / 2;
+        
+        // Scissor first: it is transformed by the current pose
+        graphics.pose().pushMatrix();
+        graphics.pose().translate(0, -getScrollPixels());
+        for (int i = first; i <= last; i++) {
+            if (!isShown(i)) {
                 continue;
             }
+            OptionWidget option = options.get(i).getWidget();
+            option.extractRenderState(graphics, mouseX, contentMouseY, delta);
             
-            // Update option position for rendering
-            Dim2i optionDim = option.getDim();
-            if (optionDim.y() != itemY) {
-                option.setDim(new Dim2i(optionDim.x(), itemY, optionDim.width(), optionDim.height()));
+            if (cursorInside && option.isHovered()) {
+                hoveredOption = option;
             }
-            
-            option.extractRenderState(graphics, mouseX, mouseY, delta);
+        }
+        renderFlash(graphics, first, last);
+        graphics.pose().popMatrix();
+        
+        if (shownRows != null && shownRows.isEmpty()) {
+            var font = Minecraft.getInstance().font;
+            graphics.centeredText(font, Component.translatable("eclipseui.search.no_options"),
+                dim.getCenterX(), dim.y() + 12, theme.useVanillaWidgets() ? 0xFFAAAAAA : theme.textSecondary());
         }
         
         graphics.disableScissor();
@@ -120,13 +441,34 @@ public class OptionListWidget extends AbstractWidget {
         }
     }
     
+    private void renderFlash(GuiGraphicsExtractor graphics, int first, int last) {
+        if (flashIndex < first || flashIndex > last || !isShown(flashIndex)) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - flashStartMillis;
+        if (elapsed >= FLASH_MILLIS) {
+            flashIndex = -1;
+            return;
+        }
+        // Fade out linearly from a quarter opacity
+        int alpha = (int) (0x40 * (FLASH_MILLIS - elapsed) / FLASH_MILLIS);
+        int color = (alpha << 24) | (theme.accentPrimary() & 0xFFFFFF);
+        Dim2i rowDim = options.get(flashIndex).getWidget().getDim();
+        fillRect(graphics, rowDim.x(), rowDim.y(), rowDim.width(), rowDim.height(), color);
+    }
+    
     /**
      * Renders overlays (dropdowns, popups) on top of everything.
      * Call this after rendering other UI elements that should appear below.
      */
     public void renderOverlays(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
-        for (OptionWidget option : options) {
-            option.renderOverlay(graphics, mouseX, mouseY, delta);
+        OptionWidget expanded = getExpandedOption();
+        if (expanded != null) {
+            expanded.setScreenOffsetY(-getScrollPixels());
+            graphics.pose().pushMatrix();
+            graphics.pose().translate(0, -getScrollPixels());
+            expanded.renderOverlay(graphics, mouseX, (int) toContentY(mouseY), delta);
+            graphics.pose().popMatrix();
         }
     }
     
@@ -166,36 +508,20 @@ public class OptionListWidget extends AbstractWidget {
     
     @Override
     protected boolean onMouseClicked(double mouseX, double mouseY, int button) {
-        // First, check if any expanded widget (dropdown/colorpicker) should handle the click
-        // These can extend beyond their row bounds
-        int scrollOffsetInt = (int) scrollOffset;
-        OptionWidget expandedWidget = null;
-        
-        // Find any expanded widget first
-        for (OptionWidget option : options) {
-            if (option.isExpanded()) {
-                expandedWidget = option;
-                break;
-            }
-        }
-        
-        // If there's an expanded widget, it gets priority
+        // An expanded widget (dropdown) gets priority, since its overlay
+        // can extend beyond its row bounds
+        OptionWidget expandedWidget = getExpandedOption();
         if (expandedWidget != null) {
-            // Update its position for click handling
-            int expandedIndex = options.indexOf(expandedWidget);
-            int itemY = dim.y() + (expandedIndex * ITEM_HEIGHT) - scrollOffsetInt;
-            Dim2i optionDim = expandedWidget.getDim();
-            if (optionDim.y() != itemY) {
-                expandedWidget.setDim(new Dim2i(optionDim.x(), itemY, optionDim.width(), optionDim.height()));
-            }
+            bindRow(expandedIndex);
             
             // Let expanded widget handle the click
-            if (expandedWidget.handleExpandedClick(mouseX, mouseY, button)) {
+            if (expandedWidget.handleExpandedClick(mouseX, toContentY(mouseY), button)) {
                 return true;
             }
             
             // Click was outside the expanded area - close it and consume the click
             expandedWidget.closeExpanded();
+            expandedIndex = -1;
             return true;
         }
         
@@ -223,37 +549,26 @@ public class OptionListWidget extends AbstractWidget {
             }
         }
         
-        // Forward to all visible options and let them check if click is within their bounds
-        for (int i = 0; i < options.size(); i++) {
-            OptionWidget option = options.get(i);
-            int itemY = dim.y() + (i * ITEM_HEIGHT) - scrollOffsetInt;
-            
-            // Skip if not visible
-            if (itemY + ITEM_HEIGHT < dim.y() || itemY > dim.getLimitY()) {
-                continue;
-            }
-            
-            // Update position for click handling
-            Dim2i optionDim = option.getDim();
-            if (optionDim.y() != itemY) {
-                option.setDim(new Dim2i(optionDim.x(), itemY, optionDim.width(), optionDim.height()));
-            }
+        // Only the row under the cursor can take the click
+        double contentY = toContentY(mouseY);
+        int index = rowHeights.findIndex((int) contentY - dim.y());
+        if (index >= 0 && index < options.size() && isShown(index)) {
+            OptionWidget option = bindRow(index);
             
-            if (option.handleMouseClicked(mouseX, mouseY, button)) {
-                // Unfocus all other options when one is clicked
-                for (OptionWidget other : options) {
-                    if (other != option) {
-                        other.setFocused(false);
-                    }
+            if (option.handleMouseClicked(mouseX, contentY, button)) {
+                // Unfocus the previously focused option when another one is clicked
+                if (focusedIndex != index) {
+                    clearFocus();
                 }
+                focusedIndex = index;
+                capturedIndex = index;
+                trackExpanded(index, option);
                 return true;
             }
         }
         
-        // Click wasn't on any option, unfocus all
-        for (OptionWidget option : options) {
-            option.setFocused(false);
-        }
+        // Click wasn't on any option, unfocus the focused one
+        clearFocus();
         
         return false;
     }
@@ -262,8 +577,10 @@ public class OptionListWidget extends AbstractWidget {
     protected boolean onMouseReleased(double mouseX, double mouseY, int button) {
         scrolling = false;
         
-        for (OptionWidget option : options) {
-            option.handleMouseReleased(mouseX, mouseY, button);
+        OptionWidget captured = getBoundWidget(capturedIndex);
+        capturedIndex = -1;
+        if (captured != null) {
+            captured.handleMouseReleased(mouseX, toContentY(mouseY), button);
         }
         
         return false;
@@ -287,10 +604,9 @@ public class OptionListWidget extends AbstractWidget {
             return true;
         }
         
-        for (OptionWidget option : options) {
-            if (option.handleMouseDragged(mouseX, mouseY, button, deltaX, deltaY)) {
-                return true;
-            }
+        OptionWidget captured = getBoundWidget(capturedIndex);
+        if (captured != null) {
+            return captured.handleMouseDragged(mouseX, toContentY(mouseY), button, deltaX, deltaY);
         }
         
         return false;
@@ -298,6 +614,17 @@ public class OptionListWidget extends AbstractWidget {
     
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
+        // An open overlay (e.g. a picker's item list) scrolls before anything under it
+        OptionWidget expandedWidget = getExpandedOption();
+        if (expandedWidget != null
+            && expandedWidget.mouseScrolled(mouseX, toContentY(mouseY), horizontalAmount, verticalAmount)) {
+            return true;
+        }
+        // Rows with their own scrollable content (e.g. text areas) get the first chance
+        if (dim.containsCursor(mouseX, mouseY) && hoveredOption != null
+            && hoveredOption.mouseScrolled(mouseX, toContentY(mouseY), horizontalAmount, verticalAmount)) {
+            return true;
+        }
         if (dim.containsCursor(mouseX, mouseY) && hasScrollbar()) {
             targetScrollOffset -= verticalAmount * 20;
             targetScrollOffset = Mth.clamp(targetScrollOffset, 0, getMaxScroll());
@@ -308,36 +635,43 @@ public class OptionListWidget extends AbstractWidget {
     
     @Override
     protected boolean onKeyPressed(int keyCode, int scanCode, int modifiers) {
-        for (OptionWidget option : options) {
-            if (option.isFocused() && option.handleKeyPressed(keyCode, scanCode, modifiers)) {
-                return true;
-            }
+        OptionWidget option = getBoundWidget(focusedIndex);
+        if (option != null && option.isFocused() && option.handleKeyPressed(keyCode, scanCode, modifiers)) {
+            trackExpanded(focusedIndex, option);
+            return true;
         }
         return false;
     }
     
     @Override
     protected boolean onCharTyped(char chr, int modifiers) {
-        for (OptionWidget option : options) {
-            if (option.isFocused() && option.handleCharTyped(chr, modifiers)) {
-                return true;
-            }
-        }
-        return false;
+        OptionWidget option = getBoundWidget(focusedIndex);
+        return option != null && option.isFocused() && option.handleCharTyped(chr, modifiers);
     }
     
-    public void resetAllToDefaults() {
-        for (OptionWidget option : options) {
-            option.resetToDefault();
+    /**
+     * Re-bind the widgets of bound rows, so they show values that were changed without them.
+     */
+    public void rebindRows() {
+        OptionWidget expanded = getExpandedOption();
+        if (expanded != null) {
+            expanded.closeExpanded();
+            expandedIndex = -1;
+        }
+        for (OptionDescriptor<?> option : boundRows) {
+            option.attach(option.detach());
         }
     }
     
-    public boolean hasModifiedOptions() {
-        for (OptionWidget option : options) {
-            if (option.isModified()) {
-                return true;
+    /**
+     * Apply buffered edits of all bound rows to their bindings.
+     */
+    public void commitPendingEdits() {
+        for (OptionDescriptor<?> option : boundRows) {
+            OptionWidget widget = option.getWidget();
+            if (widget != null) {
+                widget.commitPendingEdits();
             }
         }
-        return false;
     }
 }
@@ -20,6 +20,13 @@ public abstract class OptionWidget extends AbstractWidget {
     protected boolean modified = false;
     protected boolean requiresRestart = false;
     
+    // Offset from this widget's coordinates to screen coordinates (e.g. list scroll translation)
+    protected int screenOffsetY = 0;
+    
+    // Cached layout, recomputed when the dim or theme changes
+    private Dim2i labelDim;
+    private Dim2i controlDim;
+    
     // Layout constants
     protected static final int LABEL_WIDTH_RATIO = 50; // percentage
     protected static final int CONTROL_PADDING = 4;
@@ -28,6 +35,15 @@ public abstract class OptionWidget extends AbstractWidget {
     public OptionWidget(Dim2i dim, ThemeData theme, Component name) {
         super(dim, theme);
         this.name = name;
+        updateLayout();
+    }
+    
+    public void setName(Component name) {
+        this.name = name;
+    }
+    
+    public Component getName() {
+        return this.name;
     }
     
     public void setDescription(@Nullable Component description) {
@@ -46,6 +62,15 @@ public abstract class OptionWidget extends AbstractWidget {
         return this.hostScreen;
     }
     
+    /**
+     * Set the vertical offset between this widget's layout coordinates and the screen.
+     * Containers that render under a translated pose use this so widgets can
+     * still reason about screen bounds (e.g. where a dropdown fits).
+     */
+    public void setScreenOffsetY(int screenOffsetY) {
+        this.screenOffsetY = screenOffsetY;
+    }
+    
     public void setModified(boolean modified) {
         this.modified = modified;
     }
@@ -62,21 +87,50 @@ public abstract class OptionWidget extends AbstractWidget {
         return this.requiresRestart;
     }
     
+    @Override
+    public void setDim(Dim2i dim) {
+        boolean changed = !dim.equals(this.dim);
+        super.setDim(dim);
+        if (changed) {
+            updateLayout();
+            onLayoutChanged();
+        }
+    }
+    
+    @Override
+    public void setTheme(ThemeData theme) {
+        super.setTheme(theme);
+        onLayoutChanged();
+    }
+    
+    /**
+     * Called after the dim or theme changed, once the label and control areas are updated.
+     * Override to cache additional layout. Not called from the constructor, so subclasses
+     * compute their initial layout in their own constructor.
+     */
+    protected void onLayoutChanged() {
+    }
+    
+    // Recompute the cached label and control areas
+    private void updateLayout() {
+        int labelWidth = (dim.width() * LABEL_WIDTH_RATIO) / 100;
+        int controlWidth = dim.width() - labelWidth - CONTROL_PADDING;
+        this.labelDim = new Dim2i(dim.x(), dim.y(), labelWidth, dim.height());
+        this.controlDim = new Dim2i(dim.x() + labelWidth + CONTROL_PADDING, dim.y(), controlWidth, dim.height());
+    }
+    
     /**
      * Get the area for the label (left side).
      */
     protected Dim2i getLabelDim() {
-        int labelWidth = (dim.width() * LABEL_WIDTH_RATIO) / 100;
-        return new Dim2i(dim.x(), dim.y(), labelWidth, dim.height());
+        return this.labelDim;
     }
     
     /**
      * Get the area for the control (right side).
      */
     protected Dim2i getControlDim() {
-        int labelWidth = (dim.width() * LABEL_WIDTH_RATIO) / 100;
-        int controlWidth = dim.width() - labelWidth - CONTROL_PADDING;
-        return new Dim2i(dim.x() + labelWidth + CONTROL_PADDING, dim.y(), controlWidth, dim.height());
+        return this.controlDim;
     }
     
     @Override
@@ -138,6 +192,14 @@ public abstract class OptionWidget extends AbstractWidget {
      */
     protected abstract void renderControl(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta);
     
+    /**
+     * Apply edits that are buffered in the widget instead of being written to the binding right away.
+     * Called before saving or closing, so no in-progress edit is lost.
+     */
+    public void commitPendingEdits() {
+        // Most widgets write through to their binding immediately
+    }
+    
     /**
      * Handle clicks in expanded areas (for dropdowns, color pickers, etc.)
      * These areas extend beyond the row bounds.
@@ -0,0 +1,99 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.util.NgramIndex;
+import dev.eclipseui.util.TextLayoutCache;
+import net.minecraft.network.chat.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The values of a picker option with their display labels and search index.
+ * Owned by the option rather than its widget, so the values are fetched, formatted and
+ * indexed once, not each time a recycled widget is bound to the row.
+ */
+public final class PickerModel<T> {
+    
+    private final Supplier<? extends List<T>> source;
+    private final Function<T, Component> formatter;
+    
+    private List<T> values;
+    private Component[] labels;
+    private Map<T, Integer> positions;
+    
+    // Rebuilt when the language changes, since labels may be translated
+    private NgramIndex index;
+    private int indexGeneration = -1;
+    
+    public PickerModel(Supplier<? extends List<T>> source, Function<T, Component> formatter) {
+        this.source = source;
+        this.formatter = formatter;
+    }
+    
+    /**
+     * Get the values, fetching them from the source on first use.
+     */
+    public List<T> values() {
+        if (this.values == null) {
+            this.values = List.copyOf(this.source.get());
+            this.labels = new Component[this.values.size()];
+        }
+        return this.values;
+    }
+    
+    public int size() {
+        return values().size();
+    }
+    
+    public T get(int index) {
+        return values().get(index);
+    }
+    
+    /**
+     * Display label of the value at an index, formatted on first use.
+     */
+    public Component label(int index) {
+        values();
+        Component label = this.labels[index];
+        if (label == null) {
+            label = this.formatter.apply(this.values.get(index));
+            this.labels[index] = label;
+        }
+        return label;
+    }
+    
+    /**
+     * Position of a value, or -1 if it is not one of the values.
+     */
+    public int indexOf(T value) {
+        if (this.positions == null) {
+            List<T> list = values();
+            this.positions = new HashMap<>(list.size() * 4 / 3 + 1);
+            for (int i = list.size() - 1; i >= 0; i--) {
+                this.positions.put(list.get(i), i);
+            }
+        }
+        Integer position = this.positions.get(value);
+        return position != null ? position : -1;
+    }
+    
+    /**
+     * Positions of the values whose label contains the query, best matches first.
+     */
+    public int[] search(String query) {
+        if (this.index == null || this.indexGeneration != TextLayoutCache.languageGeneration()) {
+            int count = size();
+            List<String> strings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                strings.add(label(i).getString());
+            }
+            this.index = new NgramIndex(strings);
+            this.indexGeneration = TextLayoutCache.languageGeneration();
+        }
+        return this.index.search(query);
+    }
+}
@@ -0,0 +1,492 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.client.gui.narration.NarratedElementType;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.client.renderer.RenderPipelines;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A searchable dropdown for picking from a large list of values, such as a registry.
+ * The overlay draws only the items in view and filters them as the user types,
+ * using the search index of the option's {@link PickerModel}.
+ */
+public class PickerWidget<T> extends OptionWidget {
+    
+    private static final Component NO_VALUE_TEXT = Component.literal("---");
+    private static final Component SEARCH_TEXT = Component.translatable("eclipseui.picker.search");
+    private static final Component NO_MATCHES_TEXT = Component.translatable("eclipseui.picker.no_matches");
+    
+    private PickerModel<T> model;
+    private Supplier<T> getter;
+    private Consumer<T> setter;
+    private T defaultValue;
+    private Consumer<T> onChange;
+    private int visibleItems = 8;
+    
+    private boolean expanded = false;
+    
+    // Type-ahead state while expanded; matches holds model positions, best first
+    private final StringBuilder query = new StringBuilder();
+    private int[] matches = new int[0];
+    private int highlighted = -1;
+    private int scrollItem = 0;
+    
+    // Label of the current value, looked up again only when the value changes
+    private T displayedValue;
+    private Component displayedText = NO_VALUE_TEXT;
+    
+    public PickerWidget(Dim2i dim, ThemeData theme, Component name) {
+        super(dim, theme, name);
+    }
+    
+    public PickerWidget<T> model(PickerModel<T> model) {
+        this.model = model;
+        this.displayedValue = null;
+        this.displayedText = NO_VALUE_TEXT;
+        return this;
+    }
+    
+    public PickerWidget<T> binding(Supplier<T> getter, Consumer<T> setter) {
+        this.getter = getter;
+        this.setter = setter;
+        this.expanded = false;
+        this.query.setLength(0);
+        return this;
+    }
+    
+    public PickerWidget<T> defaultValue(T defaultValue) {
+        this.defaultValue = defaultValue;
+        return this;
+    }
+    
+    public PickerWidget<T> onChange(Consumer<T> onChange) {
+        this.onChange = onChange;
+        return this;
+    }
+    
+    public PickerWidget<T> visibleItems(int visibleItems) {
+        this.visibleItems = Math.max(1, visibleItems);
+        return this;
+    }
+    
+    public T getValue() {
+        return this.getter != null ? this.getter.get() : null;
+    }
+    
+    public void setValue(T value) {
+        if (this.setter != null && value != null) {
+            T oldValue = getValue();
+            this.setter.accept(value);
+            
+            if (!Objects.equals(oldValue, value)) {
+                this.modified = true;
+                
+                if (this.onChange != null) {
+                    this.onChange.accept(value);
+                }
+            }
+        }
+    }
+    
+    private Component getDisplayText(T value) {
+        if (value == null || this.model == null) {
+            return NO_VALUE_TEXT;
+        }
+        if (!value.equals(this.displayedValue)) {
+            int index = this.model.indexOf(value);
+            this.displayedText = index >= 0 ? this.model.label(index) : Component.literal(String.valueOf(value));
+            this.displayedValue = value;
+        }
+        return this.displayedText;
+    }
+    
+    private void cycleValue(boolean forward) {
+        if (this.model == null || this.model.size() == 0) return;
+        
+        int size = this.model.size();
+        int current = this.model.indexOf(getValue());
+        int next;
+        if (current < 0) {
+            next = 0;
+        } else if (forward) {
+            next = (current + 1) % size;
+        } else {
+            next = (current - 1 + size) % size;
+        }
+        setValue(this.model.get(next));
+    }
+    
+    private void expand() {
+        if (this.model == null) return;
+        
+        this.expanded = true;
+        this.query.setLength(0);
+        this.matches = this.model.search("");
+        this.highlighted = Math.max(0, this.model.indexOf(getValue()));
+        this.scrollItem = 0;
+        revealHighlighted();
+    }
+    
+    private void updateMatches() {
+        this.matches = this.model.search(this.query.toString());
+        this.highlighted = this.matches.length > 0 ? 0 : -1;
+        this.scrollItem = 0;
+    }
+    
+    private void moveHighlight(int amount) {
+        if (this.matches.length == 0) return;
+        
+        this.highlighted = Math.max(0, Math.min(this.highlighted + amount, this.matches.length - 1));
+        revealHighlighted();
+    }
+    
+    private void revealHighlighted() {
+        int rows = getItemRows();
+        if (this.highlighted < this.scrollItem) {
+            this.scrollItem = this.highlighted;
+        } else if (this.highlighted >= this.scrollItem + rows) {
+            this.scrollItem = this.highlighted - rows + 1;
+        }
+    }
+    
+    private void pick(int matchIndex) {
+        if (matchIndex >= 0 && matchIndex < this.matches.length) {
+            setValue(this.model.get(this.matches[matchIndex]));
+        }
+        this.expanded = false;
+    }
+    
+    private int getButtonHeight() {
+        return theme.useVanillaWidgets() ? 20 : 16;
+    }
+    
+    private int getItemHeight() {
+        return theme.useVanillaWidgets() ? 20 : 14;
+    }
+    
+    // Item rows in the overlay, not counting the search line
+    private int getItemRows() {
+        return Math.max(1, Math.min(this.visibleItems, this.matches.length));
+    }
+    
+    private int getButtonY() {
+        return getControlDim().getCenterY() - (getButtonHeight() / 2);
+    }
+    
+    private int getOverlayHeight() {
+        return (getItemRows() + 1) * getItemHeight();
+    }
+    
+    private int getOverlayY() {
+        int buttonY = getButtonY();
+        int overlayHeight = getOverlayHeight();
+        
+        // Flip upward if the overlay would extend beyond the screen bottom, with a 10 pixel margin
+        int screenHeight = Minecraft.getInstance().getWindow().getGuiScaledHeight();
+        if (buttonY + getButtonHeight() + overlayHeight + screenOffsetY > screenHeight - 10) {
+            return buttonY - overlayHeight;
+        }
+        return buttonY + getButtonHeight();
+    }
+    
+    @Override
+    protected void renderControl(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        Dim2i controlDim = getControlDim();
+        var font = Minecraft.getInstance().font;
+        int buttonHeight = getButtonHeight();
+        int buttonX = controlDim.x();
+        int buttonY = getButtonY();
+        int buttonWidth = controlDim.width() - 4;
+        Component displayText = getDisplayText(getValue());
+        
+        if (theme.useVanillaWidgets()) {
+            Identifier sprite = this.enabled
+                ? (this.hovered ? BUTTON_HIGHLIGHTED_SPRITE : BUTTON_SPRITE)
+                : BUTTON_DISABLED_SPRITE;
+            graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, buttonX, buttonY, buttonWidth, buttonHeight);
+            
+            int textWidth = TextLayoutCache.width(font, displayText);
+            int textX = buttonX + (buttonWidth - textWidth) / 2;
+            int textY = buttonY + (buttonHeight - font.lineHeight) / 2;
+            int textColor = this.enabled ? 0xFFFFFFFF : 0xFF707070;
+            graphics.text(font, displayText, textX, textY, textColor, true);
+        } else {
+            int bgColor = this.hovered ? theme.buttonBackgroundHover() : theme.buttonBackground();
+            fillRect(graphics, buttonX, buttonY, buttonWidth, buttonHeight, bgColor);
+            
+            int borderColor = this.focused ? theme.accentPrimary() : theme.buttonBorder();
+            drawRect(graphics, buttonX, buttonY, buttonWidth, buttonHeight, borderColor);
+            
+            int textColor = this.enabled ? theme.textPrimary() : theme.textDisabled();
+            int textY = buttonY + (buttonHeight - font.lineHeight) / 2;
+            graphics.text(font, displayText, buttonX + 6, textY, textColor, false);
+            
+            String arrow = this.expanded ? "▲" : "▼";
+            int arrowX = buttonX + buttonWidth - TextLayoutCache.width(font, arrow) - 6;
+            graphics.text(font, arrow, arrowX, textY, theme.textSecondary(), false);
+        }
+        
+        // The item list is rendered in renderOverlay to appear on top of other widgets
+    }
+    
+    @Override
+    public void renderOverlay(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        if (!this.expanded || this.model == null) return;
+        
+        Dim2i controlDim = getControlDim();
+        var font = Minecraft.getInstance().font;
+        boolean vanilla = theme.useVanillaWidgets();
+        
+        int x = controlDim.x();
+        int width = controlDim.width() - 4;
+        int itemHeight = getItemHeight();
+        int rows = getItemRows();
+        int overlayY = getOverlayY();
+        int overlayHeight = getOverlayHeight();
+        int textOffset = (itemHeight - font.lineHeight) / 2;
+        
+        // Background
+        if (vanilla) {
+            fillRect(graphics, x, overlayY, width, overlayHeight, 0xFF000000);
+            drawRect(graphics, x, overlayY, width, overlayHeight, 0xFF555555);
+        } else {
+            fillRect(graphics, x, overlayY, width, overlayHeight, theme.backgroundColor());
+            drawRect(graphics, x, overlayY, width, overlayHeight, theme.buttonBorder());
+        }
+        
+        // Search line
+        int primaryColor = vanilla ? 0xFFFFFFFF : theme.textPrimary();
+        int secondaryColor = vanilla ? 0xFFAAAAAA : theme.textSecondary();
+        fillRect(graphics, x + 1, overlayY + itemHeight - 1, width - 2, 1, vanilla ? 0xFF555555 : theme.divider());
+        if (this.query.length() == 0) {
+            graphics.text(font, SEARCH_TEXT, x + 6, overlayY + textOffset, vanilla ? 0xFF707070 : theme.textDisabled(), false);
+        } else {
+            String shown = font.plainSubstrByWidth(this.query.toString(), width - 12, true);
+            graphics.text(font, shown, x + 6, overlayY + textOffset, primaryColor, vanilla);
+            int cursorX = x + 6 + TextLayoutCache.width(font, shown);
+            graphics.fill(cursorX, overlayY + textOffset - 1, cursorX + 1, overlayY + textOffset + font.lineHeight, primaryColor);
+        }
+        
+        int itemsY = overlayY + itemHeight;
+        if (this.matches.length == 0) {
+            graphics.text(font, NO_MATCHES_TEXT, x + 6, itemsY + textOffset, secondaryColor, vanilla);
+            return;
+        }
+        
+        // Only the rows in view are drawn
+        this.scrollItem = Math.max(0, Math.min(this.scrollItem, this.matches.length - rows));
+        T currentValue = getValue();
+        int labelWidth = width - 12;
+        for (int row = 0; row < rows; row++) {
+            int matchIndex = this.scrollItem + row;
+            int position = this.matches[matchIndex];
+            int itemY = itemsY + row * itemHeight;
+            
+            boolean isHovered = mouseX >= x && mouseX < x + width
+                && mouseY >= itemY && mouseY < itemY + itemHeight;
+            if (isHovered) {
+                this.highlighted = matchIndex;
+            }
+            boolean isSelected = Objects.equals(this.model.get(position), currentValue);
+            
+            if (matchIndex == this.highlighted) {
+                fillRect(graphics, x + 1, itemY, width - 2, itemHeight, vanilla ? 0xFF3C3C3C : theme.categoryHover());
+            } else if (isSelected) {
+                fillRect(graphics, x + 1, itemY, width - 2, itemHeight, vanilla ? 0xFF2B2B2B : theme.categorySelected());
+            }
+            
+            Component label = this.model.label(position);
+            int itemTextColor = isSelected || matchIndex == this.highlighted ? primaryColor : secondaryColor;
+            if (TextLayoutCache.width(font, label) > labelWidth) {
+                graphics.enableScissor(x + 1, itemY, x + 6 + labelWidth, itemY + itemHeight);
+                graphics.text(font, label, x + 6, itemY + textOffset, itemTextColor, vanilla);
+                graphics.disableScissor();
+            } else {
+                graphics.text(font, label, x + 6, itemY + textOffset, itemTextColor, vanilla);
+            }
+        }
+        
+        // Scroll indicator
+        if (this.matches.length > rows) {
+            int trackHeight = rows * itemHeight;
+            int thumbHeight = Math.max(8, trackHeight * rows / this.matches.length);
+            int thumbY = itemsY + (trackHeight - thumbHeight) * this.scrollItem / (this.matches.length - rows);
+            fillRect(graphics, x + width - 3, thumbY, 2, thumbHeight, vanilla ? 0xFF808080 : theme.scrollbarThumb());
+        }
+    }
+    
+    @Override
+    protected boolean onMouseClicked(double mouseX, double mouseY, int button) {
+        if (button != 0 || !this.enabled) return false;
+        
+        if (this.expanded && handleExpandedClick(mouseX, mouseY, button)) {
+            return true;
+        }
+        
+        Dim2i controlDim = getControlDim();
+        int buttonX = controlDim.x();
+        int buttonY = getButtonY();
+        int buttonWidth = controlDim.width() - 4;
+        
+        if (mouseX >= buttonX && mouseX < buttonX + buttonWidth
+            && mouseY >= buttonY && mouseY < buttonY + getButtonHeight()) {
+            if (this.expanded) {
+                this.expanded = false;
+            } else {
+                expand();
+            }
+            this.setFocused(true);
+            return true;
+        }
+        
+        // Clicked outside
+        if (this.expanded) {
+            this.expanded = false;
+            return true;
+        }
+        
+        return false;
+    }
+    
+    @Override
+    public boolean handleExpandedClick(double mouseX, double mouseY, int button) {
+        if (!this.expanded || this.model == null || button != 0 || !this.enabled) {
+            return false;
+        }
+        
+        Dim2i controlDim = getControlDim();
+        int x = controlDim.x();
+        int width = controlDim.width() - 4;
+        int overlayY = getOverlayY();
+        if (mouseX < x || mouseX >= x + width || mouseY < overlayY || mouseY >= overlayY + getOverlayHeight()) {
+            return false;
+        }
+        
+        int row = ((int) mouseY - overlayY) / getItemHeight() - 1;
+        if (row >= 0 && this.scrollItem + row < this.matches.length) {
+            pick(this.scrollItem + row);
+        }
+        // Clicks on the search line keep the overlay open
+        return true;
+    }
+    
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
+        if (!this.expanded) {
+            return false;
+        }
+        int rows = getItemRows();
+        int maxScroll = Math.max(0, this.matches.length - rows);
+        this.scrollItem = Math.max(0, Math.min(this.scrollItem - (int) Math.signum(verticalAmount) * 3, maxScroll));
+        return true;
+    }
+    
+    @Override
+    protected boolean onKeyPressed(int keyCode, int scanCode, int modifiers) {
+        if (!this.focused || !this.enabled) {
+            return false;
+        }
+        
+        if (!this.expanded) {
+            if (keyCode == 32 || keyCode == 257) { // Space or Enter
+                expand();
+                return true;
+            } else if (keyCode == 263) { // Left
+                cycleValue(false);
+                return true;
+            } else if (keyCode == 262) { // Right
+                cycleValue(true);
+                return true;
+            }
+            return false;
+        }
+        
+        switch (keyCode) {
+            case 257, 335: // Enter, Numpad Enter
+                pick(this.highlighted);
+                return true;
+            
+            case 256: // Escape
+                this.expanded = false;
+                return true;
+            
+            case 259: // Backspace
+                if (this.query.length() > 0) {
+                    this.query.setLength(this.query.length() - 1);
+                    updateMatches();
+                }
+                return true;
+            
+            case 265: // Up arrow
+                moveHighlight(-1);
+                return true;
+            
+            case 264: // Down arrow
+                moveHighlight(1);
+                return true;
+            
+            case 266: // Page up
+                moveHighlight(-getItemRows());
+                return true;
+            
+            case 267: // Page down
+                moveHighlight(getItemRows());
+                return true;
+        }
+        
+        return false;
+    }
+    
+    @Override
+    protected boolean onCharTyped(char chr, int modifiers) {
+        if (!this.expanded || !this.enabled || Character.isISOControl(chr)) {
+            return false;
+        }
+        
+        this.query.append(chr);
+        updateMatches();
+        return true;
+    }
+    
+    @Override
+    public void setFocused(boolean focused) {
+        super.setFocused(focused);
+        if (!focused) {
+            this.expanded = false;
+        }
+    }
+    
+    @Override
+    public boolean isExpanded() {
+        return this.expanded;
+    }
+    
+    @Override
+    public void closeExpanded() {
+        this.expanded = false;
+    }
+    
+    @Override
+    public void resetToDefault() {
+        if (this.defaultValue != null) {
+            setValue(this.defaultValue);
+        }
+        this.modified = false;
+    }
+    
+    @Override
+    public void updateNarration(NarrationElementOutput output) {
+        output.add(NarratedElementType.TITLE, this.name);
+        output.add(NarratedElementType.USAGE, getDisplayText(getValue()));
+    }
+}
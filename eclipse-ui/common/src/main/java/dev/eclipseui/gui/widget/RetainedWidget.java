@@ -0,0 +1,15 @@
+package dev.eclipseui.gui.widget;
+
+/**
+ * A widget that records its draw calls once and replays them until it is marked dirty.
+ * Widgets that only change through state the base class tracks (hover, focus, enabled, theme,
+ * dim) or that call {@link AbstractWidget#markDirty()} themselves can implement this and call
+ * {@link AbstractWidget#renderRetained} from their {@code renderWidget}.
+ */
+public interface RetainedWidget {
+    
+    /**
+     * Record this widget's draw calls.
+     */
+    void recordWidget(DrawList list);
+}
@@ -0,0 +1,277 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.client.gui.narration.NarratedElementType;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.client.input.MouseButtonEvent;
+import net.minecraft.network.chat.Component;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A single-line search field with a list of results below it.
+ * The owner supplies the results whenever the query changes and is told which one was picked.
+ */
+public class SearchBoxWidget extends AbstractWidget {
+    
+    private static final int RESULT_HEIGHT = 14;
+    
+    private final StringBuilder query = new StringBuilder();
+    private Component placeholder = Component.empty();
+    private Consumer<String> onQueryChanged;
+    private IntConsumer onResultPicked;
+    
+    // Current results: a primary label and a secondary detail (e.g. the category) per row
+    private Component[] resultNames = new Component[0];
+    private Component[] resultDetails = new Component[0];
+    private int highlighted = -1;
+    
+    // Cursor blink
+    private int cursorBlinkTicks = 0;
+    
+    public SearchBoxWidget(Dim2i dim, ThemeData theme) {
+        super(dim, theme);
+    }
+    
+    public SearchBoxWidget placeholder(Component placeholder) {
+        this.placeholder = placeholder;
+        return this;
+    }
+    
+    public SearchBoxWidget onQueryChanged(Consumer<String> onQueryChanged) {
+        this.onQueryChanged = onQueryChanged;
+        return this;
+    }
+    
+    public SearchBoxWidget onResultPicked(IntConsumer onResultPicked) {
+        this.onResultPicked = onResultPicked;
+        return this;
+    }
+    
+    public String getQuery() {
+        return this.query.toString();
+    }
+    
+    /**
+     * Replace the query without notifying the listener.
+     */
+    public void setQuery(String query) {
+        this.query.setLength(0);
+        this.query.append(query);
+    }
+    
+    public void setResults(Component[] names, Component[] details) {
+        this.resultNames = names;
+        this.resultDetails = details;
+        this.highlighted = names.length > 0 ? 0 : -1;
+    }
+    
+    /**
+     * Whether the result list is showing and should receive clicks before anything under it.
+     */
+    public boolean isShowingResults() {
+        return this.focused && this.resultNames.length > 0;
+    }
+    
+    private void queryChanged() {
+        this.cursorBlinkTicks = 0;
+        if (this.onQueryChanged != null) {
+            this.onQueryChanged.accept(this.query.toString());
+        }
+    }
+    
+    private void pick(int index) {
+        if (index >= 0 && index < this.resultNames.length && this.onResultPicked != null) {
+            this.setFocused(false);
+            this.onResultPicked.accept(index);
+        }
+    }
+    
+    @Override
+    protected void renderWidget(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        var font = Minecraft.getInstance().font;
+        boolean vanilla = theme.useVanillaWidgets();
+        
+        if (vanilla) {
+            int outerBorderColor = this.focused ? 0xFFFFFFFF : 0xFFA0A0A0;
+            graphics.fill(dim.x() - 1, dim.y() - 1, dim.getLimitX() + 1, dim.getLimitY() + 1, outerBorderColor);
+            graphics.fill(dim.x(), dim.y(), dim.getLimitX(), dim.getLimitY(), 0xFF000000);
+        } else {
+            fillRect(graphics, dim.x(), dim.y(), dim.width(), dim.height(), theme.inputBackground());
+            drawRect(graphics, dim.x(), dim.y(), dim.width(), dim.height(),
+                this.focused ? theme.inputBorderFocused() : theme.inputBorder());
+        }
+        
+        int textX = dim.x() + 4;
+        int textY = dim.y() + (dim.height() - 8) / 2;
+        if (this.query.length() == 0 && !this.focused) {
+            graphics.text(font, this.placeholder, textX, textY, vanilla ? 0xFF707070 : theme.textDisabled(), vanilla);
+        } else {
+            // Keep the end of the query in view, that is where typing happens
+            String shown = font.plainSubstrByWidth(this.query.toString(), dim.width() - 10, true);
+            int textColor = vanilla ? 0xFFE0E0E0 : theme.textPrimary();
+            graphics.text(font, shown, textX, textY, textColor, vanilla);
+            if (this.focused && this.cursorBlinkTicks / 6 % 2 == 0) {
+                int cursorX = textX + TextLayoutCache.width(font, shown);
+                graphics.fill(cursorX, textY - 1, cursorX + 1, textY + font.lineHeight, textColor);
+            }
+        }
+        
+        this.cursorBlinkTicks++;
+    }
+    
+    @Override
+    public void renderOverlay(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        if (!isShowingResults()) {
+            return;
+        }
+        var font = Minecraft.getInstance().font;
+        boolean vanilla = theme.useVanillaWidgets();
+        
+        int x = dim.x();
+        int y = dim.getLimitY() + 1;
+        int width = dim.width();
+        int height = this.resultNames.length * RESULT_HEIGHT;
+        
+        if (vanilla) {
+            fillRect(graphics, x, y, width, height, 0xFF000000);
+            drawRect(graphics, x, y, width, height, 0xFF555555);
+        } else {
+            fillRect(graphics, x, y, width, height, theme.backgroundColor());
+            drawRect(graphics, x, y, width, height, theme.buttonBorder());
+        }
+        
+        int primaryColor = vanilla ? 0xFFFFFFFF : theme.textPrimary();
+        int secondaryColor = vanilla ? 0xFFAAAAAA : theme.textSecondary();
+        for (int i = 0; i < this.resultNames.length; i++) {
+            int rowY = y + i * RESULT_HEIGHT;
+            if (mouseX >= x && mouseX < x + width && mouseY >= rowY && mouseY < rowY + RESULT_HEIGHT) {
+                this.highlighted = i;
+            }
+            if (i == this.highlighted) {
+                fillRect(graphics, x + 1, rowY, width - 2, RESULT_HEIGHT, vanilla ? 0xFF3C3C3C : theme.categoryHover());
+            }
+            
+            // Detail on the right, name clipped to the space left of it
+            int textY = rowY + (RESULT_HEIGHT - font.lineHeight) / 2;
+            Component detail = this.resultDetails[i];
+            int detailWidth = TextLayoutCache.width(font, detail);
+            int detailX = x + width - 4 - detailWidth;
+            graphics.text(font, detail, detailX, textY, secondaryColor, false);
+            
+            Component name = this.resultNames[i];
+            if (TextLayoutCache.width(font, name) > detailX - x - 10) {
+                graphics.enableScissor(x + 1, rowY, detailX - 4, rowY + RESULT_HEIGHT);
+                graphics.text(font, name, x + 4, textY, primaryColor, false);
+                graphics.disableScissor();
+            } else {
+                graphics.text(font, name, x + 4, textY, primaryColor, false);
+            }
+        }
+    }
+    
+    @Override
+    public boolean mouseClicked(MouseButtonEvent event, boolean doubleClick) {
+        // The result list hangs below the field, outside its bounds
+        if (this.visible && isShowingResults()) {
+            return onMouseClicked(event.x(), event.y(), event.button());
+        }
+        return super.mouseClicked(event, doubleClick);
+    }
+    
+    @Override
+    protected boolean onMouseClicked(double mouseX, double mouseY, int button) {
+        if (button != 0) {
+            return false;
+        }
+        if (isShowingResults()) {
+            int y = dim.getLimitY() + 1;
+            if (mouseX >= dim.x() && mouseX < dim.getLimitX()
+                && mouseY >= y && mouseY < y + this.resultNames.length * RESULT_HEIGHT) {
+                pick(((int) mouseY - y) / RESULT_HEIGHT);
+                return true;
+            }
+        }
+        if (dim.containsCursor(mouseX, mouseY)) {
+            this.setFocused(true);
+            this.cursorBlinkTicks = 0;
+            return true;
+        }
+        this.setFocused(false);
+        return false;
+    }
+    
+    @Override
+    protected boolean onKeyPressed(int keyCode, int scanCode, int modifiers) {
+        if (!this.focused) {
+            return false;
+        }
+        
+        switch (keyCode) {
+            case 257, 335: // Enter, Numpad Enter
+                pick(this.highlighted);
+                return true;
+            
+            case 256: // Escape
+                if (this.query.length() > 0) {
+                    this.query.setLength(0);
+                    queryChanged();
+                } else {
+                    this.setFocused(false);
+                }
+                return true;
+            
+            case 259: // Backspace
+                if (this.query.length() > 0) {
+                    this.query.setLength(this.query.length() - 1);
+                    queryChanged();
+                }
+                return true;
+            
+            case 265: // Up arrow
+                if (this.resultNames.length > 0) {
+                    this.highlighted = Math.max(0, this.highlighted - 1);
+                }
+                return true;
+            
+            case 264: // Down arrow
+                if (this.resultNames.length > 0) {
+                    this.highlighted = Math.min(this.resultNames.length - 1, this.highlighted + 1);
+                }
+                return true;
+            
+            case 86: // V (paste)
+                if ((modifiers & 2) != 0) { // GLFW_MOD_CONTROL
+                    String clipboard = Minecraft.getInstance().keyboardHandler.getClipboard();
+                    this.query.append(clipboard.replace('\n', ' ').replace('\r', ' '));
+                    queryChanged();
+                    return true;
+                }
+                break;
+        }
+        return false;
+    }
+    
+    @Override
+    protected boolean onCharTyped(char chr, int modifiers) {
+        if (!this.focused || Character.isISOControl(chr)) {
+            return false;
+        }
+        this.query.append(chr);
+        queryChanged();
+        return true;
+    }
+    
+    @Override
+    public void updateNarration(NarrationElementOutput output) {
+        output.add(NarratedElementType.TITLE, this.placeholder);
+        if (this.query.length() > 0) {
+            output.add(NarratedElementType.USAGE, Component.literal(this.query.toString()));
+        }
+    }
+}
@@ -9,17 +9,25 @@ import net.minecraft.network.chat.Component;
  * A visual separator widget that draws a horizontal line.
  * Used to visually separate groups of options within a category.
  */
-public class SeparatorWidget extends OptionWidget {
+public class SeparatorWidget extends OptionWidget implements RetainedWidget {
     
     private static final int SEPARATOR_HEIGHT = 1;
     private static final int VERTICAL_PADDING = 8;
     
+    /** Row height used for separators in the option list (line plus padding). */
+    public static final int PREFERRED_ROW_HEIGHT = VERTICAL_PADDING * 2;
+    
     public SeparatorWidget(Dim2i dim, ThemeData theme) {
         super(dim, theme, Component.empty());
     }
     
     @Override
     protected void renderWidget(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        renderRetained(this, graphics);
+    }
+    
+    @Override
+    public void recordWidget(DrawList list) {
         // Draw the separator line
         int lineY = dim.getCenterY();
         int lineStartX = dim.x() + 8;
@@ -32,7 +40,7 @@ public class SeparatorWidget extends OptionWidget {
             lineColor = (theme.textDisabled() & 0x00FFFFFF) | 0x60000000;
         }
         
-        fillRect(graphics, lineStartX, lineY, lineEndX - lineStartX, SEPARATOR_HEIGHT, lineColor);
+        list.fill(lineStartX, lineY, lineEndX, lineY + SEPARATOR_HEIGHT, lineColor);
     }
     
     @Override
@@ -1,32 +1,40 @@
 package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.api.function.FloatConsumer;
+import dev.eclipseui.api.function.FloatSupplier;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.narration.NarratedElementType;
 import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.client.renderer.RenderPipelines;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
 import net.minecraft.util.Mth;
 
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 
 /**
  * A slider widget for numeric options.
  */
 public class SliderWidget extends OptionWidget {
     
-    private Supplier<Double> getter;
-    private Consumer<Double> setter;
+    // Primitive bindings, so reading the value every frame and dragging don't box
+    private DoubleSupplier getter;
+    private DoubleConsumer setter;
     private double defaultValue;
     private double min = 0;
     private double max = 100;
     private double step = 1;
     private boolean liveUpdate;
-    private Consumer<Double> onChange;
-    private Function<Double, Component> formatter;
+    private DoubleConsumer onChange;
+    private DoubleFunction<Component> formatter;
     private boolean showValue = true;
     private String suffix = "";
     
@@ -40,28 +48,27 @@ public class SliderWidget extends OptionWidget {
         super(dim, theme, name);
     }
     
-    public SliderWidget bindingDouble(Supplier<Double> getter, Consumer<Double> setter) {
+    public SliderWidget bindingDouble(DoubleSupplier getter, DoubleConsumer setter) {
         this.getter = getter;
         this.setter = setter;
+        this.dragging = false;
+        this.cachedValueText = null;
         return this;
     }
     
-    public SliderWidget bindingInt(Supplier<Integer> getter, Consumer<Integer> setter) {
-        this.getter = () -> getter.get().doubleValue();
-        this.setter = value -> setter.accept(value.intValue());
-        return this;
+    public SliderWidget bindingInt(IntSupplier getter, IntConsumer setter) {
+        return bindingDouble(getter::getAsInt, value -> setter.accept((int) value));
     }
     
-    public SliderWidget bindingFloat(Supplier<Float> getter, Consumer<Float> setter) {
-        this.getter = () -> getter.get().doubleValue();
-        this.setter = value -> setter.accept(value.floatValue());
-        return this;
+    public SliderWidget bindingFloat(FloatSupplier getter, FloatConsumer setter) {
+        return bindingDouble(getter::getAsFloat, value -> setter.accept((float) value));
     }
     
     public SliderWidget range(double min, double max, double step) {
         this.min = min;
         this.max = max;
         this.step = step;
+        this.cachedValueText = null;
         return this;
     }
     
@@ -90,13 +97,14 @@ public class SliderWidget extends OptionWidget {
         return this;
     }
     
-    public SliderWidget onChange(Consumer<Double> onChange) {
+    public SliderWidget onChange(DoubleConsumer onChange) {
         this.onChange = onChange;
         return this;
     }
     
-    public SliderWidget formatter(Function<Double, Component> formatter) {
+    public SliderWidget formatter(DoubleFunction<Component> formatter) {
         this.formatter = formatter;
+        this.cachedValueText = null;
         return this;
     }
     
@@ -107,11 +115,12 @@ public class SliderWidget extends OptionWidget {
     
     public SliderWidget suffix(String suffix) {
         this.suffix = suffix;
+        this.cachedValueText = null;
         return this;
     }
     
     public double getValue() {
-        return this.getter != null ? this.getter.get() : this.min;
+        return this.getter != null ? this.getter.getAsDouble() : this.min;
     }
     
     public void setValue(double value) {
@@ -181,10 +190,10 @@ public class SliderWidget extends OptionWidget {
             int sliderY = controlDim.getCenterY() - (sliderHeight / 2);
             
             // Draw vanilla button background using sprite
-            net.minecraft.resources.Identifier sprite = this.enabled 
-                ? net.minecraft.resources.Identifier.withDefaultNamespace("widget/button")
-                : net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_disabled");
-            graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, sliderX, sliderY, sliderWidth, sliderHeight);
+            Identifier sprite = this.enabled 
+                ? BUTTON_SPRITE
+                : BUTTON_DISABLED_SPRITE;
+            graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, sliderX, sliderY, sliderWidth, sliderHeight);
             
             // Draw slider handle
             double progress = getProgress();
@@ -192,12 +201,12 @@ public class SliderWidget extends OptionWidget {
             int handleX = sliderX + 4 + (int) ((sliderWidth - 8 - handleWidth) * progress);
             
             // Draw highlighted section under handle using a lighter button sprite
-            net.minecraft.resources.Identifier handleSprite = net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_highlighted");
-            graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, handleSprite, handleX, sliderY, handleWidth, sliderHeight);
+            Identifier handleSprite = BUTTON_HIGHLIGHTED_SPRITE;
+            graphics.blitSprite(RenderPipelines.GUI_TEXTURED, handleSprite, handleX, sliderY, handleWidth, sliderHeight);
             
             // Draw value text centered with shadow
             Component text = getValueText();
-            int textWidth = font.width(text);
+            int textWidth = TextLayoutCache.width(font, text);
             int textX = sliderX + (sliderWidth - textWidth) / 2;
             int textY = sliderY + (sliderHeight - font.lineHeight) / 2;
             int textColor = this.enabled ? 0xFFFFFFFF : 0xFF707070;
@@ -205,7 +214,7 @@ public class SliderWidget extends OptionWidget {
         } else {
             // Modern flat slider style
             int sliderHeight = 8;
-            int textWidth = showValue ? font.width(getValueText()) + 8 : 0;
+            int textWidth = showValue ? TextLayoutCache.width(font, getValueText()) + 8 : 0;
             int sliderWidth = controlDim.width() - textWidth - 4;
             int sliderX = controlDim.x();
             int sliderY = controlDim.getCenterY() - (sliderHeight / 2);
@@ -263,7 +272,7 @@ public class SliderWidget extends OptionWidget {
         } else {
             // Modern layout: slider with text beside it
             var font = Minecraft.getInstance().font;
-            int textWidth = showValue ? font.width(getValueText()) + 8 : 0;
+            int textWidth = showValue ? TextLayoutCache.width(font, getValueText()) + 8 : 0;
             int sliderWidth = controlDim.width() - textWidth - 4;
             
             sliderStartX = controlDim.x();
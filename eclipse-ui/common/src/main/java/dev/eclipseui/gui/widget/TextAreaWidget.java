@@ -0,0 +1,561 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.PieceTable;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.client.gui.narration.NarratedElementType;
+import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.network.chat.Component;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A multi-line text input widget for long string options.
+ * Text is kept in a piece table and only the visible lines are drawn. Edits are applied
+ * to the binding when the widget loses focus (or on every edit with live update enabled).
+ */
+public class TextAreaWidget extends OptionWidget {
+    
+    /** Height of one line of text, including spacing. */
+    public static final int LINE_HEIGHT = 10;
+    private static final int TEXT_PADDING = 4;
+    
+    private Supplier<String> getter;
+    private Consumer<String> setter;
+    private String defaultValue = "";
+    private boolean liveUpdate;
+    private Consumer<String> onChange;
+    private Predicate<String> validator;
+    private Component placeholder;
+    private Component errorMessage;
+    private int maxLength = 65536;
+    
+    // Text editing state
+    private final PieceTable text = new PieceTable();
+    private int cursorPosition = 0;
+    private int scrollLine = 0;
+    private int scrollX = 0;
+    private boolean textFocused = false;
+    private boolean isValid = true;
+    private boolean pendingCommit = false;
+    private boolean scrollToCursor = false;
+    
+    // Bumped on every edit, used to invalidate the caches below
+    private int editCount = 0;
+    
+    // Clipped text of the visible lines
+    private String[] visibleLines = new String[0];
+    private int visibleFirstLine = -1;
+    private int visibleEditCount = -1;
+    private int visibleScrollX = -1;
+    private int visibleWidth = -1;
+    
+    // Caret x offset within its line
+    private int caretX;
+    private int caretEditCount = -1;
+    private int caretPosition = -1;
+    
+    // Cursor blink
+    private int cursorBlinkTicks = 0;
+    
+    public TextAreaWidget(Dim2i dim, ThemeData theme, Component name) {
+        super(dim, theme, name);
+    }
+    
+    /**
+     * Row height needed to show the given number of lines.
+     */
+    public static int rowHeightFor(int lines) {
+        return Math.max(1, lines) * LINE_HEIGHT + TEXT_PADDING * 2 + 6;
+    }
+    
+    public TextAreaWidget binding(Supplier<String> getter, Consumer<String> setter) {
+        this.getter = getter;
+        this.setter = setter;
+        this.text.set(getter.get());
+        this.cursorPosition = 0;
+        this.scrollLine = 0;
+        this.scrollX = 0;
+        this.pendingCommit = false;
+        this.editCount++;
+        validateText();
+        return this;
+    }
+    
+    public TextAreaWidget defaultValue(String defaultValue) {
+        this.defaultValue = defaultValue;
+        return this;
+    }
+    
+    public TextAreaWidget placeholder(Component placeholder) {
+        this.placeholder = placeholder;
+        return this;
+    }
+    
+    public TextAreaWidget maxLength(int maxLength) {
+        this.maxLength = maxLength;
+        return this;
+    }
+    
+    public TextAreaWidget validator(Predicate<String> validator) {
+        this.validator = validator;
+        return this;
+    }
+    
+    public TextAreaWidget liveUpdate(boolean liveUpdate) {
+        this.liveUpdate = liveUpdate;
+        return this;
+    }
+    
+    public TextAreaWidget onChange(Consumer<String> onChange) {
+        this.onChange = onChange;
+        return this;
+    }
+    
+    public TextAreaWidget errorMessage(Component errorMessage) {
+        this.errorMessage = errorMessage;
+        return this;
+    }
+    
+    public String getValue() {
+        return this.getter != null ? this.getter.get() : this.text.toString();
+    }
+    
+    public void setValue(String value) {
+        this.text.set(value);
+        this.cursorPosition = Math.min(this.cursorPosition, this.text.length());
+        this.editCount++;
+        this.pendingCommit = true;
+        commitPendingEdits();
+    }
+    
+    /**
+     * Apply the edited text to the binding, if it changed since the last commit.
+     */
+    @Override
+    public void commitPendingEdits() {
+        if (!this.pendingCommit) {
+            return;
+        }
+        this.pendingCommit = false;
+        
+        String oldValue = getValue();
+        String value = this.text.toString();
+        validateText();
+        
+        if (this.setter != null && this.isValid) {
+            this.setter.accept(value);
+        }
+        
+        if (!oldValue.equals(value)) {
+            this.modified = true;
+            
+            if (this.onChange != null && this.isValid) {
+                this.onChange.accept(value);
+            }
+        }
+    }
+    
+    private void validateText() {
+        if (this.validator != null) {
+            this.isValid = this.validator.test(this.text.toString());
+        } else {
+            this.isValid = true;
+        }
+    }
+    
+    private void onTextEdited() {
+        this.editCount++;
+        this.modified = true;
+        this.pendingCommit = true;
+        this.scrollToCursor = true;
+        this.cursorBlinkTicks = 0;
+        if (this.liveUpdate) {
+            commitPendingEdits();
+        }
+    }
+    
+    private void moveCursor(int position) {
+        this.cursorPosition = Math.max(0, Math.min(position, this.text.length()));
+        this.scrollToCursor = true;
+        this.cursorBlinkTicks = 0;
+    }
+    
+    @Override
+    protected void renderLabel(GuiGraphicsExtractor graphics) {
+        var font = Minecraft.getInstance().font;
+        Dim2i labelDim = getLabelDim();
+        
+        int textColor;
+        if (theme.useVanillaWidgets()) {
+            textColor = this.enabled ? 0xFFFFFFFF : 0xFF707070;
+        } else {
+            textColor = this.enabled ? this.theme.textPrimary() : this.theme.textDisabled();
+        }
+        
+        // Align with the first line of text rather than the row center
+        int textY = labelDim.y() + 2 + TEXT_PADDING;
+        int textX = labelDim.x() + (this.modified ? 12 : 4);
+        graphics.text(font, this.name, textX, textY, textColor, theme.useVanillaWidgets());
+    }
+    
+    @Override
+    protected void renderControl(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        Dim2i controlDim = getControlDim();
+        var font = Minecraft.getInstance().font;
+        
+        int fieldX = controlDim.x();
+        int fieldY = dim.y() + 2;
+        int fieldWidth = controlDim.width() - 4;
+        int fieldHeight = dim.height() - 4;
+        
+        if (theme.useVanillaWidgets()) {
+            int outerBorderColor = this.textFocused ? 0xFFFFFFFF : 0xFFA0A0A0;
+            if (!this.isValid) {
+                outerBorderColor = 0xFFFF5555;
+            }
+            graphics.fill(fieldX - 1, fieldY - 1, fieldX + fieldWidth + 1, fieldY + fieldHeight + 1, outerBorderColor);
+            graphics.fill(fieldX, fieldY, fieldX + fieldWidth, fieldY + fieldHeight, 0xFF000000);
+        } else {
+            fillRect(graphics, fieldX, fieldY, fieldWidth, fieldHeight, theme.inputBackground());
+            
+            int borderColor;
+            if (!this.isValid) {
+                borderColor = 0xFFFF5555;
+            } else if (this.textFocused) {
+                borderColor = theme.inputBorderFocused();
+            } else {
+                borderColor = theme.inputBorder();
+            }
+            drawRect(graphics, fieldX, fieldY, fieldWidth, fieldHeight, borderColor);
+        }
+        
+        int textX = fieldX + TEXT_PADDING;
+        int textTop = fieldY + TEXT_PADDING;
+        int innerWidth = fieldWidth - TEXT_PADDING * 2;
+        int lineSlots = getVisibleLineCount();
+        
+        if (this.text.length() == 0 && this.placeholder != null && !this.textFocused) {
+            int placeholderColor = theme.useVanillaWidgets() ? 0xFF707070 : theme.textDisabled();
+            graphics.text(font, this.placeholder, textX, textTop, placeholderColor, theme.useVanillaWidgets());
+            this.cursorBlinkTicks++;
+            return;
+        }
+        
+        if (this.scrollToCursor) {
+            this.scrollToCursor = false;
+            revealCursor(lineSlots, innerWidth);
+        }
+        this.scrollLine = Math.max(0, Math.min(this.scrollLine, this.text.lineCount() - lineSlots));
+        
+        int textColor;
+        if (theme.useVanillaWidgets()) {
+            textColor = this.enabled ? 0xFFE0E0E0 : 0xFF707070;
+        } else {
+            textColor = this.enabled ? theme.textPrimary() : theme.textDisabled();
+        }
+        
+        graphics.enableScissor(fieldX + 1, fieldY + 1, fieldX + fieldWidth - 1, fieldY + fieldHeight - 1);
+        String[] lines = getVisibleLines(lineSlots, innerWidth);
+        for (int i = 0; i < lines.length && lines[i] != null; i++) {
+            graphics.text(font, lines[i], textX - this.scrollX, textTop + i * LINE_HEIGHT, textColor, theme.useVanillaWidgets());
+        }
+        
+        // Draw cursor
+        if (this.textFocused && this.cursorBlinkTicks / 6 % 2 == 0) {
+            int cursorLine = this.text.lineOf(this.cursorPosition);
+            if (cursorLine >= this.scrollLine && cursorLine < this.scrollLine + lineSlots) {
+                int cursorX = textX + getCaretX() - this.scrollX;
+                int cursorY = textTop + (cursorLine - this.scrollLine) * LINE_HEIGHT;
+                graphics.fill(cursorX, cursorY - 1, cursorX + 1, cursorY + font.lineHeight, theme.textPrimary());
+            }
+        }
+        graphics.disableScissor();
+        
+        // Scroll indicator
+        int lineCount = this.text.lineCount();
+        if (lineCount > lineSlots) {
+            int trackHeight = fieldHeight - 2;
+            int thumbHeight = Math.max(8, trackHeight * lineSlots / lineCount);
+            int thumbY = fieldY + 1 + (trackHeight - thumbHeight) * this.scrollLine / (lineCount - lineSlots);
+            int thumbColor = theme.useVanillaWidgets() ? 0xFF808080 : theme.scrollbarThumb();
+            fillRect(graphics, fieldX + fieldWidth - 3, thumbY, 2, thumbHeight, thumbColor);
+        }
+        
+        this.cursorBlinkTicks++;
+    }
+    
+    private int getVisibleLineCount() {
+        return Math.max(1, (dim.height() - 4 - TEXT_PADDING * 2) / LINE_HEIGHT);
+    }
+    
+    /**
+     * Get the visible lines, clipped to what fits in the field, rebuilding them only after
+     * an edit, scroll or resize.
+     */
+    private String[] getVisibleLines(int lineSlots, int innerWidth) {
+        if (this.visibleLines.length != lineSlots) {
+            this.visibleLines = new String[lineSlots];
+            this.visibleFirstLine = -1;
+        }
+        if (this.visibleFirstLine != this.scrollLine || this.visibleEditCount != this.editCount
+            || this.visibleScrollX != this.scrollX || this.visibleWidth != innerWidth) {
+            var font = Minecraft.getInstance().font;
+            int lineCount = this.text.lineCount();
+            for (int i = 0; i < lineSlots; i++) {
+                int line = this.scrollLine + i;
+                // Draw from the line start so glyphs stay aligned, but skip everything past the right edge
+                this.visibleLines[i] = line < lineCount
+                    ? font.plainSubstrByWidth(this.text.line(line), this.scrollX + innerWidth)
+                    : null;
+            }
+            this.visibleFirstLine = this.scrollLine;
+            this.visibleEditCount = this.editCount;
+            this.visibleScrollX = this.scrollX;
+            this.visibleWidth = innerWidth;
+        }
+        return this.visibleLines;
+    }
+    
+    private int getCaretX() {
+        if (this.caretEditCount != this.editCount || this.caretPosition != this.cursorPosition) {
+            int lineStart = this.text.lineStart(this.text.lineOf(this.cursorPosition));
+            this.caretX = Minecraft.getInstance().font.width(this.text.substring(lineStart, this.cursorPosition));
+            this.caretEditCount = this.editCount;
+            this.caretPosition = this.cursorPosition;
+        }
+        return this.caretX;
+    }
+    
+    private void revealCursor(int lineSlots, int innerWidth) {
+        int cursorLine = this.text.lineOf(this.cursorPosition);
+        if (cursorLine < this.scrollLine) {
+            this.scrollLine = cursorLine;
+        } else if (cursorLine >= this.scrollLine + lineSlots) {
+            this.scrollLine = cursorLine - lineSlots + 1;
+        }
+        
+        int x = getCaretX();
+        if (x < this.scrollX) {
+            this.scrollX = Math.max(0, x - innerWidth / 3);
+        } else if (x > this.scrollX + innerWidth - 2) {
+            this.scrollX = x - innerWidth + innerWidth / 3;
+        }
+    }
+    
+    /**
+     * Offset in the given line closest to a horizontal pixel position.
+     */
+    // Step over a whole surrogate pair, so the cursor never splits a supplementary character
+    private int previousBoundary(int index) {
+        if (index >= 2 && Character.isLowSurrogate(text.charAt(index - 1)) && Character.isHighSurrogate(text.charAt(index - 2))) {
+            return index - 2;
+        }
+        return index - 1;
+    }
+    
+    private int nextBoundary(int index) {
+        if (index + 2 <= text.length() && Character.isHighSurrogate(text.charAt(index)) && Character.isLowSurrogate(text.charAt(index + 1))) {
+            return index + 2;
+        }
+        return index + 1;
+    }
+    
+    private int offsetAtX(int line, int x) {
+        String lineText = this.text.line(line);
+        int column = Minecraft.getInstance().font.plainSubstrByWidth(lineText, Math.max(0, x)).length();
+        return this.text.lineStart(line) + column;
+    }
+    
+    @Override
+    protected boolean onMouseClicked(double mouseX, double mouseY, int button) {
+        if (button == 0 && this.enabled) {
+            Dim2i controlDim = getControlDim();
+            int fieldY = dim.y() + 2;
+            
+            if (mouseX >= controlDim.x() && mouseX < controlDim.x() + controlDim.width() - 4
+                && mouseY >= fieldY && mouseY < dim.getLimitY() - 2) {
+                this.textFocused = true;
+                this.setFocused(true); // Also set widget focus for key event forwarding
+                
+                int row = ((int) mouseY - fieldY - TEXT_PADDING) / LINE_HEIGHT;
+                int line = Math.max(0, Math.min(this.scrollLine + row, this.text.lineCount() - 1));
+                int x = (int) mouseX - controlDim.x() - TEXT_PADDING + this.scrollX;
+                moveCursor(offsetAtX(line, x));
+                return true;
+            } else {
+                this.textFocused = false;
+                this.setFocused(false);
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
+        int lineSlots = getVisibleLineCount();
+        if (!this.dim.containsCursor(mouseX, mouseY) || this.text.lineCount() <= lineSlots) {
+            return false;
+        }
+        int maxScroll = this.text.lineCount() - lineSlots;
+        this.scrollLine = Math.max(0, Math.min(this.scrollLine - (int) Math.signum(verticalAmount) * 3, maxScroll));
+        return true;
+    }
+    
+    @Override
+    protected boolean onKeyPressed(int keyCode, int scanCode, int modifiers) {
+        if (!this.textFocused || !this.enabled) {
+            return false;
+        }
+        
+        boolean ctrl = (modifiers & 2) != 0; // GLFW_MOD_CONTROL
+        int line = this.text.lineOf(this.cursorPosition);
+        
+        switch (keyCode) {
+            case 257, 335: // Enter, Numpad Enter
+                insertText("\n");
+                return true;
+            
+            case 259: // Backspace
+                if (cursorPosition > 0) {
+                    int start = previousBoundary(cursorPosition);
+                    text.delete(start, cursorPosition);
+                    cursorPosition = start;
+                    onTextEdited();
+                }
+                return true;
+            
+            case 261: // Delete
+                if (cursorPosition < text.length()) {
+                    text.delete(cursorPosition, nextBoundary(cursorPosition));
+                    onTextEdited();
+                }
+                return true;
+            
+            case 263: // Left arrow
+                if (cursorPosition > 0) {
+                    moveCursor(previousBoundary(cursorPosition));
+                }
+                return true;
+            
+            case 262: // Right arrow
+                if (cursorPosition < text.length()) {
+                    moveCursor(nextBoundary(cursorPosition));
+                }
+                return true;
+            
+            case 265: // Up arrow
+                if (line > 0) {
+                    moveCursor(offsetAtX(line - 1, getCaretX()));
+                }
+                return true;
+            
+            case 264: // Down arrow
+                if (line < text.lineCount() - 1) {
+                    moveCursor(offsetAtX(line + 1, getCaretX()));
+                }
+                return true;
+            
+            case 266: // Page up
+                moveCursor(offsetAtX(Math.max(0, line - getVisibleLineCount()), getCaretX()));
+                return true;
+            
+            case 267: // Page down
+                moveCursor(offsetAtX(Math.min(text.lineCount() - 1, line + getVisibleLineCount()), getCaretX()));
+                return true;
+            
+            case 268: // Home
+                moveCursor(ctrl ? 0 : text.lineStart(line));
+                return true;
+            
+            case 269: // End
+                moveCursor(ctrl ? text.length() : text.lineEnd(line));
+                return true;
+            
+            case 86: // V (paste)
+                if (ctrl) {
+                    String clipboard = Minecraft.getInstance().keyboardHandler.getClipboard();
+                    insertText(clipboard.replace("\r\n", "\n").replace('\r', '\n').replace("\t", "    "));
+                    return true;
+                }
+                break;
+            
+            case 67: // C (copy)
+                if (ctrl) {
+                    Minecraft.getInstance().keyboardHandler.setClipboard(text.toString());
+                    return true;
+                }
+                break;
+            
+            case 65: // A (select all)
+                if (ctrl) {
+                    moveCursor(text.length());
+                    return true;
+                }
+                break;
+        }
+        
+        return false;
+    }
+    
+    @Override
+    protected boolean onCharTyped(char chr, int modifiers) {
+        if (!this.textFocused || !this.enabled) {
+            return false;
+        }
+        
+        if (Character.isISOControl(chr)) {
+            return false;
+        }
+        
+        insertText(String.valueOf(chr));
+        return true;
+    }
+    
+    private void insertText(String inserted) {
+        int available = Math.max(0, maxLength - text.length());
+        if (inserted.length() > available) {
+            // Never keep half of a surrogate pair at the limit
+            if (available > 0 && Character.isHighSurrogate(inserted.charAt(available - 1))) {
+                available--;
+            }
+            inserted = inserted.substring(0, available);
+        }
+        
+        if (!inserted.isEmpty()) {
+            text.insert(cursorPosition, inserted);
+            cursorPosition += inserted.length();
+            onTextEdited();
+        }
+    }
+    
+    @Override
+    public void setFocused(boolean focused) {
+        super.setFocused(focused);
+        if (!focused) {
+            this.textFocused = false;
+            commitPendingEdits();
+        }
+    }
+    
+    @Override
+    public void resetToDefault() {
+        setValue(this.defaultValue);
+        this.cursorPosition = 0;
+        this.scrollLine = 0;
+        this.scrollX = 0;
+        this.modified = false;
+    }
+    
+    @Override
+    public void updateNarration(NarrationElementOutput output) {
+        output.add(NarratedElementType.TITLE, this.name);
+        if (text.length() > 0) {
+            output.add(NarratedElementType.USAGE, Component.literal(text.line(text.lineOf(cursorPosition))));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.GapTextBuffer;
+import dev.eclipseui.util.TextLayoutCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.narration.NarratedElementType;
@@ -27,13 +29,20 @@ public class TextFieldWidget extends OptionWidget {
     private Component errorMessage;
     private int maxLength = 256;
     
-    // Text editing state
-    private String currentText = "";
+    // Text editing state; the buffer keeps prefix widths so layout and click mapping are O(log n)
+    private final GapTextBuffer text = new GapTextBuffer(TextFieldWidget::measureChar);
+    private int measuredGeneration = TextLayoutCache.generation();
     private int cursorPosition = 0;
     private int selectionStart = 0;
     private int scrollOffset = 0;
     private boolean textFocused = false;
     private boolean isValid = true;
+    private boolean pendingCommit = false;
+    
+    // Visible slice of the text, rebuilt when the text or scroll window changes
+    private String visibleText = "";
+    private int visibleStart = -1;
+    private int visibleEnd = -1;
     
     // Cursor blink
     private int cursorBlinkTicks = 0;
@@ -45,8 +54,12 @@ public class TextFieldWidget extends OptionWidget {
     public TextFieldWidget binding(Supplier<String> getter, Consumer<String> setter) {
         this.getter = getter;
         this.setter = setter;
-        this.currentText = getter.get();
-        this.cursorPosition = currentText.length();
+        setText(getter.get());
+        this.cursorPosition = text.length();
+        this.selectionStart = 0;
+        this.scrollOffset = 0;
+        this.pendingCommit = false;
+        validateText();
         return this;
     }
     
@@ -86,13 +99,29 @@ public class TextFieldWidget extends OptionWidget {
     }
     
     public String getValue() {
-        return this.getter != null ? this.getter.get() : this.currentText;
+        return this.getter != null ? this.getter.get() : this.text.toString();
     }
     
     public void setValue(String value) {
+        setText(value);
+        this.cursorPosition = Math.min(this.cursorPosition, this.text.length());
+        this.pendingCommit = true;
+        commitPendingEdits();
+    }
+    
+    /**
+     * Apply the edited text to the binding, if it changed since the last commit.
+     */
+    @Override
+    public void commitPendingEdits() {
+        if (!this.pendingCommit) {
+            return;
+        }
+        this.pendingCommit = false;
+        
         String oldValue = getValue();
-        this.currentText = value;
-        validateText();
+        String value = this.text.toString();
+        validateText(value);
         
         if (this.setter != null && this.isValid) {
             this.setter.accept(value);
@@ -107,9 +136,18 @@ public class TextFieldWidget extends OptionWidget {
         }
     }
     
+    private void setText(String value) {
+        this.text.set(value);
+        this.visibleStart = -1;
+    }
+    
     private void validateText() {
+        validateText(this.text.toString());
+    }
+    
+    private void validateText(String value) {
         if (this.validator != null) {
-            this.isValid = this.validator.test(this.currentText);
+            this.isValid = this.validator.test(value);
         } else {
             this.isValid = true;
         }
@@ -160,20 +198,17 @@ public class TextFieldWidget extends OptionWidget {
         int maxTextWidth = fieldWidth - 8;
         
         // Draw text or placeholder
-        if (this.currentText.isEmpty() && this.placeholder != null && !this.textFocused) {
+        if (this.text.length() == 0 && this.placeholder != null && !this.textFocused) {
             int placeholderColor = theme.useVanillaWidgets() ? 0xFF707070 : theme.textDisabled();
             graphics.text(font, this.placeholder, textX, textY, placeholderColor, theme.useVanillaWidgets());
         } else {
-            String displayText = this.currentText;
+            ensureMeasured();
+            updateScroll(maxTextWidth);
             
-            // Handle scrolling for long text
-            if (font.width(displayText) > maxTextWidth) {
-                // Simple scrolling: show text around cursor
-                while (font.width(displayText.substring(0, Math.min(cursorPosition, displayText.length()))) > maxTextWidth - 10) {
-                    displayText = displayText.substring(1);
-                    scrollOffset++;
-                }
-            }
+            // Only the characters that fit in the field are drawn
+            int scrollWidth = text.prefixWidth(scrollOffset);
+            int end = Math.max(scrollOffset, Math.min(text.length(), text.indexAtWidth(scrollWidth + maxTextWidth)));
+            String displayText = getVisibleText(scrollOffset, end);
             
             int textColor;
             if (theme.useVanillaWidgets()) {
@@ -185,7 +220,7 @@ public class TextFieldWidget extends OptionWidget {
             
             // Draw cursor
             if (this.textFocused && this.cursorBlinkTicks / 6 % 2 == 0) {
-                int cursorX = textX + font.width(displayText.substring(0, Math.min(cursorPosition - scrollOffset, displayText.length())));
+                int cursorX = textX + text.prefixWidth(cursorPosition) - scrollWidth;
                 graphics.fill(cursorX, textY - 1, cursorX + 1, textY + font.lineHeight, theme.textPrimary());
             }
         }
@@ -194,6 +229,62 @@ public class TextFieldWidget extends OptionWidget {
         this.cursorBlinkTicks++;
     }
     
+    /**
+     * Keep the cursor inside the visible window, scrolling by as little as possible.
+     */
+    private void updateScroll(int maxTextWidth) {
+        if (text.totalWidth() <= maxTextWidth) {
+            scrollOffset = 0;
+            return;
+        }
+        scrollOffset = Math.min(scrollOffset, text.length());
+        if (cursorPosition < scrollOffset) {
+            scrollOffset = cursorPosition;
+            return;
+        }
+        int cursorWidth = text.prefixWidth(cursorPosition);
+        int minScrollWidth = cursorWidth - (maxTextWidth - 10);
+        if (minScrollWidth > text.prefixWidth(scrollOffset)) {
+            // First character boundary at or after minScrollWidth
+            int index = text.indexAtWidth(minScrollWidth);
+            if (index < cursorPosition && text.prefixWidth(index) < minScrollWidth) {
+                index = nextBoundary(index);
+            }
+            scrollOffset = index;
+        }
+    }
+    
+    private String getVisibleText(int start, int end) {
+        if (start != visibleStart || end != visibleEnd) {
+            visibleText = text.substring(start, end);
+            visibleStart = start;
+            visibleEnd = end;
+        }
+        return visibleText;
+    }
+    
+    // Glyph widths depend on the font, so re-measure when the text layout cache was invalidated
+    private void ensureMeasured() {
+        int generation = TextLayoutCache.generation();
+        if (measuredGeneration != generation) {
+            measuredGeneration = generation;
+            text.remeasure();
+        }
+    }
+    
+    private static int measureChar(int codePoint) {
+        return Minecraft.getInstance().font.width(Character.toString(codePoint));
+    }
+    
+    // Cursor positions step over surrogate pairs as a whole
+    private int previousBoundary(int index) {
+        return Character.offsetByCodePoints(text, index, -1);
+    }
+    
+    private int nextBoundary(int index) {
+        return Character.offsetByCodePoints(text, index, 1);
+    }
+    
     @Override
     protected boolean onMouseClicked(double mouseX, double mouseY, int button) {
         if (button == 0 && this.enabled) {
@@ -208,18 +299,14 @@ public class TextFieldWidget extends OptionWidget {
                 this.setFocused(true); // Also set widget focus for key event forwarding
                 this.cursorBlinkTicks = 0;
                 
-                // Position cursor based on click
-                var font = Minecraft.getInstance().font;
+                // Position cursor at the character boundary nearest to the click
+                ensureMeasured();
                 int textX = controlDim.x() + 4;
-                int clickOffset = (int) mouseX - textX;
+                int clickOffset = (int) mouseX - textX + text.prefixWidth(Math.min(scrollOffset, text.length()));
                 
-                int pos = 0;
-                for (int i = 0; i <= currentText.length(); i++) {
-                    if (font.width(currentText.substring(0, i)) >= clickOffset) {
-                        pos = i;
-                        break;
-                    }
-                    pos = i;
+                int pos = text.indexAtWidth(clickOffset);
+                if (pos < text.length() && clickOffset - text.prefixWidth(pos) > text.charWidth(pos) / 2) {
+                    pos = nextBoundary(pos);
                 }
                 this.cursorPosition = pos;
                 return true;
@@ -242,43 +329,44 @@ public class TextFieldWidget extends OptionWidget {
         switch (keyCode) {
             case 259: // Backspace
                 if (cursorPosition > 0) {
-                    currentText = currentText.substring(0, cursorPosition - 1) + currentText.substring(cursorPosition);
-                    cursorPosition--;
-                    setValue(currentText);
+                    int start = previousBoundary(cursorPosition);
+                    text.delete(start, cursorPosition);
+                    cursorPosition = start;
+                    onTextEdited();
                 }
                 return true;
-                
+            
             case 261: // Delete
-                if (cursorPosition < currentText.length()) {
-                    currentText = currentText.substring(0, cursorPosition) + currentText.substring(cursorPosition + 1);
-                    setValue(currentText);
+                if (cursorPosition < text.length()) {
+                    text.delete(cursorPosition, nextBoundary(cursorPosition));
+                    onTextEdited();
                 }
                 return true;
-                
+            
             case 263: // Left arrow
                 if (cursorPosition > 0) {
-                    cursorPosition--;
+                    cursorPosition = previousBoundary(cursorPosition);
                     cursorBlinkTicks = 0;
                 }
                 return true;
-                
+            
             case 262: // Right arrow
-                if (cursorPosition < currentText.length()) {
-                    cursorPosition++;
+                if (cursorPosition < text.length()) {
+                    cursorPosition = nextBoundary(cursorPosition);
                     cursorBlinkTicks = 0;
                 }
                 return true;
-                
+            
             case 268: // Home
                 cursorPosition = 0;
                 cursorBlinkTicks = 0;
                 return true;
-                
+            
             case 269: // End
-                cursorPosition = currentText.length();
+                cursorPosition = text.length();
                 cursorBlinkTicks = 0;
                 return true;
-                
+            
             case 86: // V (paste)
                 if (ctrl) {
                     String clipboard = Minecraft.getInstance().keyboardHandler.getClipboard();
@@ -286,17 +374,17 @@ public class TextFieldWidget extends OptionWidget {
                     return true;
                 }
                 break;
-                
+            
             case 67: // C (copy)
                 if (ctrl) {
-                    Minecraft.getInstance().keyboardHandler.setClipboard(currentText);
+                    Minecraft.getInstance().keyboardHandler.setClipboard(text.toString());
                     return true;
                 }
                 break;
-                
+            
             case 65: // A (select all)
                 if (ctrl) {
-                    cursorPosition = currentText.length();
+                    cursorPosition = text.length();
                     selectionStart = 0;
                     return true;
                 }
@@ -320,40 +408,57 @@ public class TextFieldWidget extends OptionWidget {
         return true;
     }
     
-    private void insertText(String text) {
-        if (currentText.length() + text.length() > maxLength) {
-            text = text.substring(0, maxLength - currentText.length());
+    private void insertText(String inserted) {
+        int available = Math.max(0, maxLength - text.length());
+        if (inserted.length() > available) {
+            // Never keep half of a surrogate pair at the limit
+            if (available > 0 && Character.isHighSurrogate(inserted.charAt(available - 1))) {
+                available--;
+            }
+            inserted = inserted.substring(0, available);
         }
         
-        if (!text.isEmpty()) {
-            currentText = currentText.substring(0, cursorPosition) + text + currentText.substring(cursorPosition);
-            cursorPosition += text.length();
-            setValue(currentText);
+        if (!inserted.isEmpty()) {
+            text.insert(cursorPosition, inserted);
+            cursorPosition += inserted.length();
+            onTextEdited();
             cursorBlinkTicks = 0;
         }
     }
     
+    private void onTextEdited() {
+        this.visibleStart = -1;
+        this.modified = true;
+        this.pendingCommit = true;
+        if (this.liveUpdate) {
+            commitPendingEdits();
+        } else {
+            // The border still shows whether the text is valid while typing
+            validateText();
+        }
+    }
+    
     @Override
     public void setFocused(boolean focused) {
         super.setFocused(focused);
         if (!focused) {
             this.textFocused = false;
+            commitPendingEdits();
         }
     }
     
     @Override
     public void resetToDefault() {
         setValue(this.defaultValue);
-        this.currentText = this.defaultValue;
-        this.cursorPosition = currentText.length();
+        this.cursorPosition = text.length();
         this.modified = false;
     }
     
     @Override
     public void updateNarration(NarrationElementOutput output) {
         output.add(NarratedElementType.TITLE, this.name);
-        if (!currentText.isEmpty()) {
-            output.add(NarratedElementType.USAGE, Component.literal(currentText));
+        if (text.length() > 0) {
+            output.add(NarratedElementType.USAGE, Component.literal(text.toString()));
         }
     }
 }
@@ -1,26 +1,30 @@
 package dev.eclipseui.gui.widget;
 
 import dev.eclipseui.api.ThemeData;
+import dev.eclipseui.api.function.BooleanConsumer;
+import dev.eclipseui.gui.theme.Colors;
 import dev.eclipseui.util.Dim2i;
+import dev.eclipseui.util.TextLayoutCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.narration.NarratedElementType;
 import net.minecraft.client.gui.narration.NarrationElementOutput;
+import net.minecraft.client.renderer.RenderPipelines;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.Identifier;
 
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
 
 /**
  * A toggle switch widget for boolean options.
  */
 public class ToggleWidget extends OptionWidget {
     
-    private Supplier<Boolean> getter;
-    private Consumer<Boolean> setter;
+    private BooleanSupplier getter;
+    private BooleanConsumer setter;
     private boolean defaultValue;
     private boolean liveUpdate;
-    private Consumer<Boolean> onChange;
+    private BooleanConsumer onChange;
     
     private Component onText = Component.translatable("eclipseui.toggle.on");
     private Component offText = Component.translatable("eclipseui.toggle.off");
@@ -33,10 +37,10 @@ public class ToggleWidget extends OptionWidget {
         super(dim, theme, name);
     }
     
-    public ToggleWidget binding(Supplier<Boolean> getter, Consumer<Boolean> setter) {
+    public ToggleWidget binding(BooleanSupplier getter, BooleanConsumer setter) {
         this.getter = getter;
         this.setter = setter;
-        this.animationProgress = getter.get() ? 1f : 0f;
+        this.animationProgress = getter.getAsBoolean() ? 1f : 0f;
         return this;
     }
     
@@ -50,7 +54,7 @@ public class ToggleWidget extends OptionWidget {
         return this;
     }
     
-    public ToggleWidget onChange(Consumer<Boolean> onChange) {
+    public ToggleWidget onChange(BooleanConsumer onChange) {
         this.onChange = onChange;
         return this;
     }
@@ -66,7 +70,7 @@ public class ToggleWidget extends OptionWidget {
     }
     
     public boolean getValue() {
-        return this.getter != null ? this.getter.get() : false;
+        return this.getter != null && this.getter.getAsBoolean();
     }
     
     public void setValue(boolean value) {
@@ -110,14 +114,14 @@ public class ToggleWidget extends OptionWidget {
             int buttonY = controlDim.getCenterY() - (buttonHeight / 2);
             
             // Draw vanilla button using sprites
-            net.minecraft.resources.Identifier sprite = this.enabled 
-                ? net.minecraft.resources.Identifier.withDefaultNamespace("widget/button")
-                : net.minecraft.resources.Identifier.withDefaultNamespace("widget/button_disabled");
-            graphics.blitSprite(net.minecraft.client.renderer.RenderPipelines.GUI_TEXTURED, sprite, buttonX, buttonY, buttonWidth, buttonHeight);
+            Identifier sprite = this.enabled 
+                ? BUTTON_SPRITE
+                : BUTTON_DISABLED_SPRITE;
+            graphics.blitSprite(RenderPipelines.GUI_TEXTURED, sprite, buttonX, buttonY, buttonWidth, buttonHeight);
             
             // Draw text centered with shadow
             Component text = value ? this.onText : this.offText;
-            int textWidth = font.width(text);
+            int textWidth = TextLayoutCache.width(font, text);
             int textX = buttonX + (buttonWidth - textWidth) / 2;
             int textY = buttonY + (buttonHeight - font.lineHeight) / 2;
             int textColor = this.enabled ? (value ? 0xFFFFFFFF : 0xFFAAAAAA) : 0xFF707070;
@@ -131,7 +135,7 @@ public class ToggleWidget extends OptionWidget {
             
             // Draw track
             int trackColor = interpolateColor(theme.toggleOff(), theme.toggleOn(), animationProgress);
-            fillRect(graphics, switchX, switchY, switchWidth, switchHeight, trackColor);
+            fillGradientVertical(graphics, switchX, switchY, switchWidth, switchHeight, Colors.lighten(trackColor, 0.1f), trackColor);
             
             // Draw border
             int borderColor = this.focused ? theme.accentPrimary() : theme.buttonBorder();
@@ -2,8 +2,10 @@ package dev.eclipseui.impl;
 
 import dev.eclipseui.api.*;
 import dev.eclipseui.api.component.*;
+import dev.eclipseui.api.function.BooleanConsumer;
+import dev.eclipseui.api.function.FloatConsumer;
+import dev.eclipseui.api.function.FloatSupplier;
 import dev.eclipseui.gui.screen.EclipseConfigScreen;
-import dev.eclipseui.gui.theme.ThemeRegistry;
 import dev.eclipseui.gui.widget.*;
 import dev.eclipseui.util.Dim2i;
 import net.minecraft.client.gui.screens.Screen;
@@ -13,8 +15,14 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -30,6 +38,7 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
     private @Nullable ConfigData config;
     private final List<CategoryBuilderImpl> categories = new ArrayList<>();
     private @Nullable Runnable onSave;
+    private @Nullable Consumer<Throwable> onSaveError;
     private @Nullable Runnable onReset;
     private @Nullable Runnable onClose;
     private boolean saveButton = true;
@@ -87,6 +96,12 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         return this;
     }
     
+    @Override
+    public ConfigScreenBuilder onSaveError(Consumer<Throwable> callback) {
+        this.onSaveError = callback;
+        return this;
+    }
+    
     @Override
     public ConfigScreenBuilder onReset(Runnable callback) {
         this.onReset = callback;
@@ -113,8 +128,6 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
     
     @Override
     public Screen build() {
-        ThemeData themeData = customTheme != null ? customTheme : ThemeRegistry.get(theme);
-        
         EclipseConfigScreen screen = new EclipseConfigScreen(
             title,
             parent,
@@ -125,12 +138,13 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
             resetButton,
             onSave,
             onReset,
-            onClose
+            onClose,
+            onSaveError
         );
         
         // Build and add categories
         for (CategoryBuilderImpl categoryBuilder : categories) {
-            EclipseConfigScreen.CategoryData categoryData = categoryBuilder.build(themeData);
+            EclipseConfigScreen.CategoryData categoryData = categoryBuilder.build();
             screen.addCategory(categoryData);
         }
         
@@ -145,7 +159,8 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         private Component name = Component.literal("Category");
         private @Nullable Identifier icon;
         private @Nullable Component description;
-        private final List<OptionBuilderData> options = new ArrayList<>();
+        // Option builders run when the category is first shown, not when the screen is built
+        private final List<Supplier<OptionDescriptor<?>>> options = new ArrayList<>();
         
         @Override
         public CategoryBuilder name(Component name) {
@@ -179,53 +194,123 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         
         @Override
         public CategoryBuilder toggle(Consumer<ToggleBuilder> builder) {
-            ToggleBuilderImpl impl = new ToggleBuilderImpl();
-            builder.accept(impl);
-            options.add(impl);
+            options.add(() -> {
+                ToggleBuilderImpl impl = new ToggleBuilderImpl();
+                builder.accept(impl);
+                return impl;
+            });
             return this;
         }
         
         @Override
         public CategoryBuilder slider(Consumer<SliderBuilder> builder) {
-            SliderBuilderImpl impl = new SliderBuilderImpl();
-            builder.accept(impl);
-            options.add(impl);
+            options.add(() -> {
+                SliderBuilderImpl impl = new SliderBuilderImpl();
+                builder.accept(impl);
+                return impl;
+            });
             return this;
         }
         
         @Override
         public CategoryBuilder textInput(Consumer<TextInputBuilder> builder) {
-            TextInputBuilderImpl impl = new TextInputBuilderImpl();
-            builder.accept(impl);
-            options.add(impl);
+            options.add(() -> {
+                TextInputBuilderImpl impl = new TextInputBuilderImpl();
+                builder.accept(impl);
+                return impl;
+            });
+            return this;
+        }
+        
+        @Override
+        public CategoryBuilder textArea(Consumer<TextAreaBuilder> builder) {
+            options.add(() -> {
+                TextAreaBuilderImpl impl = new TextAreaBuilderImpl();
+                builder.accept(impl);
+                return impl;
+            });
+            return this;
+        }
+        
+        @Override
+        public CategoryBuilder stringList(Consumer<ListBuilder<String>> builder) {
+            options.add(() -> {
+                ListBuilderImpl<String> impl = new ListBuilderImpl<>(Function.identity());
+                builder.accept(impl);
+                return impl;
+            });
+            return this;
+        }
+        
+        @Override
+        public CategoryBuilder intList(Consumer<ListBuilder<Integer>> builder) {
+            options.add(() -> {
+                ListBuilderImpl<Integer> impl = new ListBuilderImpl<>(Integer::valueOf);
+                builder.accept(impl);
+                return impl;
+            });
+            return this;
+        }
+        
+        @Override
+        public CategoryBuilder doubleList(Consumer<ListBuilder<Double>> builder) {
+            options.add(() -> {
+                ListBuilderImpl<Double> impl = new ListBuilderImpl<>(Double::valueOf);
+                builder.accept(impl);
+                return impl;
+            });
+            return this;
+        }
+        
+        @Override
+        public <T> CategoryBuilder list(Consumer<ListBuilder<T>> builder) {
+            options.add(() -> {
+                ListBuilderImpl<T> impl = new ListBuilderImpl<>(null);
+                builder.accept(impl);
+                return impl;
+            });
             return this;
         }
         
         @Override
         public <E extends Enum<E>> CategoryBuilder dropdown(Consumer<DropdownBuilder<E>> builder) {
-            DropdownBuilderImpl<E> impl = new DropdownBuilderImpl<>();
-            builder.accept(impl);
-            options.add(impl);
+            options.add(() -> {
+                DropdownBuilderImpl<E> impl = new DropdownBuilderImpl<>();
+                builder.accept(impl);
+                return impl;
+            });
+            return this;
+        }
+        
+        @Override
+        public <T> CategoryBuilder picker(Consumer<PickerBuilder<T>> builder) {
+            options.add(() -> {
+                PickerBuilderImpl<T> impl = new PickerBuilderImpl<>();
+                builder.accept(impl);
+                return impl;
+            });
             return this;
         }
         
         @Override
         public CategoryBuilder colorPicker(Consumer<ColorPickerBuilder> builder) {
-            ColorPickerBuilderImpl impl = new ColorPickerBuilderImpl();
-            builder.accept(impl);
-            options.add(impl);
+            options.add(() -> {
+                ColorPickerBuilderImpl impl = new ColorPickerBuilderImpl();
+                builder.accept(impl);
+                return impl;
+            });
             return this;
         }
         
         @Override
         public CategoryBuilder separator() {
-            options.add(new SeparatorData());
+            options.add(SeparatorData::new);
             return this;
         }
         
         @Override
         public CategoryBuilder label(Component text) {
-            options.add(new LabelData(text));
+            options.add(() -> new LabelData(text));
             return this;
         }
         
@@ -234,38 +319,28 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
             return label(Component.translatable(translationKey));
         }
         
-        public EclipseConfigScreen.CategoryData build(ThemeData theme) {
-            List<OptionWidget> widgets = new ArrayList<>();
-            Dim2i defaultDim = new Dim2i(0, 0, 300, 20);
-            
-            for (OptionBuilderData optionData : options) {
-                OptionWidget widget = optionData.build(defaultDim, theme);
-                if (widget != null) {
-                    widgets.add(widget);
+        public EclipseConfigScreen.CategoryData build() {
+            // Options are kept as descriptors; row widgets are created and recycled by the option list
+            List<Supplier<OptionDescriptor<?>>> factories = List.copyOf(options);
+            return new EclipseConfigScreen.CategoryData(name, icon, description, () -> {
+                List<OptionDescriptor<?>> descriptors = new ArrayList<>(factories.size());
+                for (Supplier<OptionDescriptor<?>> factory : factories) {
+                    descriptors.add(factory.get());
                 }
-            }
-            
-            return new EclipseConfigScreen.CategoryData(name, icon, description, widgets);
+                return descriptors;
+            });
         }
     }
     
-    // Interface for option builders
-    interface OptionBuilderData {
-        OptionWidget build(Dim2i dim, ThemeData theme);
-    }
-    
     // Toggle builder implementation
-    static class ToggleBuilderImpl implements ToggleBuilder, OptionBuilderData {
-        private Component name = Component.empty();
-        private @Nullable Component description;
-        private Supplier<Boolean> getter = () -> false;
-        private Consumer<Boolean> setter = v -> {};
+    static class ToggleBuilderImpl extends OptionDescriptor<ToggleWidget> implements ToggleBuilder {
+        private BooleanSupplier getter = () -> false;
+        private BooleanConsumer setter = v -> {};
         private boolean defaultValue = false;
         private boolean liveUpdate = false;
-        private boolean requiresRestart = false;
         private Component onText = Component.translatable("eclipseui.toggle.on");
         private Component offText = Component.translatable("eclipseui.toggle.off");
-        private @Nullable Consumer<Boolean> onChange;
+        private @Nullable BooleanConsumer onChange;
         
         @Override
         public ToggleBuilder name(Component name) { this.name = name; return this; }
@@ -276,7 +351,7 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         @Override
         public ToggleBuilder description(String key) { this.description = Component.translatable(key); return this; }
         @Override
-        public ToggleBuilder binding(Supplier<Boolean> getter, Consumer<Boolean> setter) {
+        public ToggleBuilder bindingAsBoolean(BooleanSupplier getter, BooleanConsumer setter) {
             this.getter = getter; this.setter = setter; return this;
         }
         @Override
@@ -290,40 +365,45 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         @Override
         public ToggleBuilder offText(Component text) { this.offText = text; return this; }
         @Override
-        public ToggleBuilder onChange(Consumer<Boolean> callback) { this.onChange = callback; return this; }
+        public ToggleBuilder onChangeAsBoolean(BooleanConsumer callback) { this.onChange = callback; return this; }
         
         @Override
-        public OptionWidget build(Dim2i dim, ThemeData theme) {
-            ToggleWidget widget = new ToggleWidget(dim, theme, name)
-                .binding(getter, setter)
+        public Class<?> widgetType() { return ToggleWidget.class; }
+        
+        @Override
+        protected ToggleWidget createWidget(Dim2i dim, ThemeData theme) {
+            return new ToggleWidget(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(ToggleWidget widget) {
+            widget.binding(liveUpdate ? getter : stagedGetter(getter), liveUpdate ? setter : stagedSetter(getter, setter))
                 .defaultValue(defaultValue)
                 .liveUpdate(liveUpdate)
                 .onText(onText)
-                .offText(offText);
-            
-            if (onChange != null) widget.onChange(onChange);
-            widget.setDescription(description);
-            widget.setRequiresRestart(requiresRestart);
-            return widget;
+                .offText(offText)
+                .onChange(onChange);
+        }
+        
+        @Override
+        public void stageDefault() {
+            (liveUpdate ? setter : stagedSetter(getter, setter)).accept(defaultValue);
         }
     }
     
     // Slider builder implementation
-    static class SliderBuilderImpl implements SliderBuilder, OptionBuilderData {
-        private Component name = Component.empty();
-        private @Nullable Component description;
-        private Supplier<Double> getter = () -> 0.0;
-        private Consumer<Double> setter = v -> {};
+    static class SliderBuilderImpl extends OptionDescriptor<SliderWidget> implements SliderBuilder {
+        private DoubleSupplier getter = () -> 0.0;
+        private DoubleConsumer setter = v -> {};
         private double defaultValue = 0;
         private double min = 0;
         private double max = 100;
         private double step = 1;
         private boolean liveUpdate = false;
-        private boolean requiresRestart = false;
-        private @Nullable Function<Double, Component> formatter;
+        private @Nullable DoubleFunction<Component> formatter;
         private boolean showValue = true;
         private String suffix = "";
-        private @Nullable Consumer<Double> onChange;
+        private @Nullable DoubleConsumer onChange;
         
         @Override
         public SliderBuilder name(Component name) { this.name = name; return this; }
@@ -344,19 +424,19 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
             this.min = min; this.max = max; this.step = step; return this;
         }
         @Override
-        public SliderBuilder bindingInt(Supplier<Integer> getter, Consumer<Integer> setter) {
-            this.getter = () -> getter.get().doubleValue();
-            this.setter = v -> setter.accept(v.intValue());
+        public SliderBuilder bindingAsInt(IntSupplier getter, IntConsumer setter) {
+            this.getter = getter::getAsInt;
+            this.setter = v -> setter.accept((int) v);
             return this;
         }
         @Override
-        public SliderBuilder bindingDouble(Supplier<Double> getter, Consumer<Double> setter) {
+        public SliderBuilder bindingAsDouble(DoubleSupplier getter, DoubleConsumer setter) {
             this.getter = getter; this.setter = setter; return this;
         }
         @Override
-        public SliderBuilder bindingFloat(Supplier<Float> getter, Consumer<Float> setter) {
-            this.getter = () -> getter.get().doubleValue();
-            this.setter = v -> setter.accept(v.floatValue());
+        public SliderBuilder bindingAsFloat(FloatSupplier getter, FloatConsumer setter) {
+            this.getter = getter::getAsFloat;
+            this.setter = v -> setter.accept((float) v);
             return this;
         }
         @Override
@@ -366,7 +446,7 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         @Override
         public SliderBuilder requiresRestart(boolean required) { this.requiresRestart = required; return this; }
         @Override
-        public SliderBuilder formatter(Function<Double, Component> fmt) { this.formatter = fmt; return this; }
+        public SliderBuilder formatterAsDouble(DoubleFunction<Component> fmt) { this.formatter = fmt; return this; }
         @Override
         public SliderBuilder showValue(boolean show) { this.showValue = show; return this; }
         @Override
@@ -377,30 +457,41 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
             return this;
         }
         @Override
-        public SliderBuilder onChange(Consumer<Double> callback) { this.onChange = callback; return this; }
+        public SliderBuilder onChangeAsDouble(DoubleConsumer callback) { this.onChange = callback; return this; }
         
         @Override
-        public OptionWidget build(Dim2i dim, ThemeData theme) {
-            SliderWidget widget = new SliderWidget(dim, theme, name)
-                .bindingDouble(getter, setter)
+        public Class<?> widgetType() { return SliderWidget.class; }
+        
+        @Override
+        protected SliderWidget createWidget(Dim2i dim, ThemeData theme) {
+            return new SliderWidget(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(SliderWidget widget) {
+            widget.bindingDouble(liveUpdate ? getter : stagedGetter(getter), liveUpdate ? setter : stagedSetter(getter, setter))
                 .range(min, max, step)
                 .defaultValue(defaultValue)
                 .liveUpdate(liveUpdate)
                 .showValue(showValue)
-                .suffix(suffix);
-            
-            if (formatter != null) widget.formatter(formatter);
-            if (onChange != null) widget.onChange(onChange);
-            widget.setDescription(description);
-            widget.setRequiresRestart(requiresRestart);
-            return widget;
+                .suffix(suffix)
+                .formatter(formatter)
+                .onChange(onChange);
+        }
+        
+        @Override
+        public void stageDefault() {
+            // Same clamping and snapping as the widget
+            double value = Math.max(min, Math.min(max, defaultValue));
+            if (step > 0) {
+                value = Math.round(value / step) * step;
+            }
+            (liveUpdate ? setter : stagedSetter(getter, setter)).accept(value);
         }
     }
     
     // Text input builder implementation
-    static class TextInputBuilderImpl implements TextInputBuilder, OptionBuilderData {
-        private Component name = Component.empty();
-        private @Nullable Component description;
+    static class TextInputBuilderImpl extends OptionDescriptor<TextFieldWidget> implements TextInputBuilder {
         private Supplier<String> getter = () -> "";
         private Consumer<String> setter = v -> {};
         private String defaultValue = "";
@@ -408,7 +499,6 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         private int maxLength = 256;
         private @Nullable Predicate<String> validator;
         private boolean liveUpdate = false;
-        private boolean requiresRestart = false;
         private @Nullable Consumer<String> onChange;
         private @Nullable Component errorMessage;
         
@@ -444,34 +534,188 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         public TextInputBuilder errorMessage(Component msg) { this.errorMessage = msg; return this; }
         
         @Override
-        public OptionWidget build(Dim2i dim, ThemeData theme) {
-            TextFieldWidget widget = new TextFieldWidget(dim, theme, name)
-                .binding(getter, setter)
+        public Class<?> widgetType() { return TextFieldWidget.class; }
+        
+        @Override
+        protected TextFieldWidget createWidget(Dim2i dim, ThemeData theme) {
+            return new TextFieldWidget(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(TextFieldWidget widget) {
+            // Validator first, binding() validates the initial text
+            widget.validator(validator)
+                .binding(liveUpdate ? getter : stagedGetter(getter), liveUpdate ? setter : stagedSetter(getter, setter))
                 .defaultValue(defaultValue)
                 .maxLength(maxLength)
-                .liveUpdate(liveUpdate);
-            
-            if (placeholder != null) widget.placeholder(placeholder);
-            if (validator != null) widget.validator(validator);
-            if (onChange != null) widget.onChange(onChange);
-            if (errorMessage != null) widget.errorMessage(errorMessage);
-            widget.setDescription(description);
-            widget.setRequiresRestart(requiresRestart);
-            return widget;
+                .liveUpdate(liveUpdate)
+                .placeholder(placeholder)
+                .onChange(onChange)
+                .errorMessage(errorMessage);
+        }
+        
+        @Override
+        public void stageDefault() {
+            (liveUpdate ? setter : stagedSetter(getter, setter)).accept(defaultValue);
+        }
+    }
+    
+    // Text area builder implementation
+    static class TextAreaBuilderImpl extends OptionDescriptor<TextAreaWidget> implements TextAreaBuilder {
+        private Supplier<String> getter = () -> "";
+        private Consumer<String> setter = v -> {};
+        private String defaultValue = "";
+        private @Nullable Component placeholder;
+        private int maxLength = 65536;
+        private @Nullable Predicate<String> validator;
+        private boolean liveUpdate = false;
+        private @Nullable Consumer<String> onChange;
+        private @Nullable Component errorMessage;
+        
+        TextAreaBuilderImpl() {
+            this.rowHeight = TextAreaWidget.rowHeightFor(6);
+        }
+        
+        @Override
+        public TextAreaBuilder name(Component name) { this.name = name; return this; }
+        @Override
+        public TextAreaBuilder name(String key) { this.name = Component.translatable(key); return this; }
+        @Override
+        public TextAreaBuilder description(Component desc) { this.description = desc; return this; }
+        @Override
+        public TextAreaBuilder description(String key) { this.description = Component.translatable(key); return this; }
+        @Override
+        public TextAreaBuilder binding(Supplier<String> getter, Consumer<String> setter) {
+            this.getter = getter; this.setter = setter; return this;
+        }
+        @Override
+        public TextAreaBuilder defaultValue(String val) { this.defaultValue = val; return this; }
+        @Override
+        public TextAreaBuilder placeholder(Component placeholder) { this.placeholder = placeholder; return this; }
+        @Override
+        public TextAreaBuilder placeholder(String key) { this.placeholder = Component.translatable(key); return this; }
+        @Override
+        public TextAreaBuilder visibleLines(int lines) { this.rowHeight = TextAreaWidget.rowHeightFor(lines); return this; }
+        @Override
+        public TextAreaBuilder maxLength(int max) { this.maxLength = max; return this; }
+        @Override
+        public TextAreaBuilder validator(Predicate<String> validator) { this.validator = validator; return this; }
+        @Override
+        public TextAreaBuilder liveUpdate(boolean enabled) { this.liveUpdate = enabled; return this; }
+        @Override
+        public TextAreaBuilder requiresRestart(boolean required) { this.requiresRestart = required; return this; }
+        @Override
+        public TextAreaBuilder onChange(Consumer<String> callback) { this.onChange = callback; return this; }
+        @Override
+        public TextAreaBuilder errorMessage(Component msg) { this.errorMessage = msg; return this; }
+        
+        @Override
+        public Class<?> widgetType() { return TextAreaWidget.class; }
+        
+        @Override
+        protected TextAreaWidget createWidget(Dim2i dim, ThemeData theme) {
+            return new TextAreaWidget(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(TextAreaWidget widget) {
+            // Validator first, binding() validates the initial text
+            widget.validator(validator)
+                .binding(liveUpdate ? getter : stagedGetter(getter), liveUpdate ? setter : stagedSetter(getter, setter))
+                .defaultValue(defaultValue)
+                .maxLength(maxLength)
+                .liveUpdate(liveUpdate)
+                .placeholder(placeholder)
+                .onChange(onChange)
+                .errorMessage(errorMessage);
+        }
+        
+        @Override
+        public void stageDefault() {
+            (liveUpdate ? setter : stagedSetter(getter, setter)).accept(defaultValue);
+        }
+    }
+    
+    // List builder implementation
+    static class ListBuilderImpl<T> extends OptionDescriptor<ListEditorWidget<T>> implements ListBuilder<T> {
+        private Supplier<List<T>> getter = List::of;
+        private Consumer<List<T>> setter = v -> {};
+        private List<T> defaultValue = List.of();
+        private @Nullable Function<String, T> parser;
+        private Function<T, String> formatter = String::valueOf;
+        private @Nullable Predicate<T> entryValidator;
+        private @Nullable Component placeholder;
+        private @Nullable Consumer<List<T>> onChange;
+        
+        ListBuilderImpl(@Nullable Function<String, T> parser) {
+            this.parser = parser;
+            this.rowHeight = ListEditorWidget.rowHeightFor(6);
+        }
+        
+        @Override
+        public ListBuilder<T> name(Component name) { this.name = name; return this; }
+        @Override
+        public ListBuilder<T> name(String key) { this.name = Component.translatable(key); return this; }
+        @Override
+        public ListBuilder<T> description(Component desc) { this.description = desc; return this; }
+        @Override
+        public ListBuilder<T> description(String key) { this.description = Component.translatable(key); return this; }
+        @Override
+        public ListBuilder<T> binding(Supplier<List<T>> getter, Consumer<List<T>> setter) {
+            this.getter = getter; this.setter = setter; return this;
+        }
+        @Override
+        public ListBuilder<T> defaultValue(List<T> val) { this.defaultValue = List.copyOf(val); return this; }
+        @Override
+        public ListBuilder<T> parser(Function<String, T> parser) { this.parser = parser; return this; }
+        @Override
+        public ListBuilder<T> formatter(Function<T, String> formatter) { this.formatter = formatter; return this; }
+        @Override
+        public ListBuilder<T> entryValidator(Predicate<T> validator) { this.entryValidator = validator; return this; }
+        @Override
+        public ListBuilder<T> visibleEntries(int entries) { this.rowHeight = ListEditorWidget.rowHeightFor(entries); return this; }
+        @Override
+        public ListBuilder<T> placeholder(Component placeholder) { this.placeholder = placeholder; return this; }
+        @Override
+        public ListBuilder<T> placeholder(String key) { this.placeholder = Component.translatable(key); return this; }
+        @Override
+        public ListBuilder<T> requiresRestart(boolean required) { this.requiresRestart = required; return this; }
+        @Override
+        public ListBuilder<T> onChange(Consumer<List<T>> callback) { this.onChange = callback; return this; }
+        
+        @Override
+        public Class<?> widgetType() { return ListEditorWidget.class; }
+        
+        @Override
+        protected ListEditorWidget<T> createWidget(Dim2i dim, ThemeData theme) {
+            return new ListEditorWidget<>(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(ListEditorWidget<T> widget) {
+            widget.binding(stagedGetter(getter), stagedSetter(getter, setter))
+                .defaultValue(defaultValue)
+                .parser(parser)
+                .formatter(formatter)
+                .entryValidator(entryValidator)
+                .placeholder(placeholder)
+                .onChange(onChange);
+        }
+        
+        @Override
+        public void stageDefault() {
+            stagedSetter(getter, setter).accept(new ArrayList<>(defaultValue));
         }
     }
     
     // Dropdown builder implementation
-    static class DropdownBuilderImpl<E extends Enum<E>> implements DropdownBuilder<E>, OptionBuilderData {
-        private Component name = Component.empty();
-        private @Nullable Component description;
+    static class DropdownBuilderImpl<E extends Enum<E>> extends OptionDescriptor<DropdownWidget<E>> implements DropdownBuilder<E> {
         private Class<E> enumClass;
         private Supplier<E> getter;
         private Consumer<E> setter;
         private E defaultValue;
         private @Nullable Function<E, Component> formatter;
         private boolean liveUpdate = false;
-        private boolean requiresRestart = false;
         private @Nullable Consumer<E> onChange;
         
         @Override
@@ -500,32 +744,110 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         public DropdownBuilder<E> onChange(Consumer<E> callback) { this.onChange = callback; return this; }
         
         @Override
-        public OptionWidget build(Dim2i dim, ThemeData theme) {
-            DropdownWidget<E> widget = new DropdownWidget<E>(dim, theme, name)
-                .enumClass(enumClass)
-                .binding(getter, setter)
+        public Class<?> widgetType() { return DropdownWidget.class; }
+        
+        @Override
+        protected DropdownWidget<E> createWidget(Dim2i dim, ThemeData theme) {
+            return new DropdownWidget<E>(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(DropdownWidget<E> widget) {
+            widget.enumClass(enumClass)
+                .binding(liveUpdate ? getter : stagedGetter(getter), liveUpdate ? setter : stagedSetter(getter, setter))
                 .defaultValue(defaultValue)
-                .liveUpdate(liveUpdate);
-            
-            if (formatter != null) widget.formatter(formatter);
-            if (onChange != null) widget.onChange(onChange);
-            widget.setDescription(description);
-            widget.setRequiresRestart(requiresRestart);
-            return widget;
+                .liveUpdate(liveUpdate)
+                .formatter(formatter)
+                .onChange(onChange);
+        }
+        
+        @Override
+        public void stageDefault() {
+            if (defaultValue != null) {
+                (liveUpdate ? setter : stagedSetter(getter, setter)).accept(defaultValue);
+            }
+        }
+    }
+    
+    // Picker builder implementation
+    static class PickerBuilderImpl<T> extends OptionDescriptor<PickerWidget<T>> implements PickerBuilder<T> {
+        private Supplier<List<T>> values = List::of;
+        private Supplier<T> getter = () -> null;
+        private Consumer<T> setter = v -> {};
+        private @Nullable T defaultValue;
+        private Function<T, Component> formatter = v -> Component.literal(String.valueOf(v));
+        private int visibleItems = 8;
+        private @Nullable Consumer<T> onChange;
+        // Values, labels and search index, shared by every widget this option is bound to
+        private @Nullable PickerModel<T> model;
+        
+        @Override
+        public PickerBuilder<T> name(Component name) { this.name = name; return this; }
+        @Override
+        public PickerBuilder<T> name(String key) { this.name = Component.translatable(key); return this; }
+        @Override
+        public PickerBuilder<T> description(Component desc) { this.description = desc; return this; }
+        @Override
+        public PickerBuilder<T> description(String key) { this.description = Component.translatable(key); return this; }
+        @Override
+        public PickerBuilder<T> values(List<T> values) { this.values = () -> values; return this; }
+        @Override
+        public PickerBuilder<T> values(Supplier<List<T>> values) { this.values = values; return this; }
+        @Override
+        public PickerBuilder<T> binding(Supplier<T> getter, Consumer<T> setter) {
+            this.getter = getter; this.setter = setter; return this;
+        }
+        @Override
+        public PickerBuilder<T> defaultValue(T val) { this.defaultValue = val; return this; }
+        @Override
+        public PickerBuilder<T> formatter(Function<T, Component> fmt) { this.formatter = fmt; return this; }
+        @Override
+        public PickerBuilder<T> visibleItems(int items) { this.visibleItems = items; return this; }
+        @Override
+        public PickerBuilder<T> requiresRestart(boolean required) { this.requiresRestart = required; return this; }
+        @Override
+        public PickerBuilder<T> onChange(Consumer<T> callback) { this.onChange = callback; return this; }
+        
+        @Override
+        public Class<?> widgetType() { return PickerWidget.class; }
+        
+        @Override
+        protected PickerWidget<T> createWidget(Dim2i dim, ThemeData theme) {
+            return new PickerWidget<T>(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(PickerWidget<T> widget) {
+            widget.model(model())
+                .binding(stagedGetter(getter), stagedSetter(getter, setter))
+                .defaultValue(defaultValue)
+                .visibleItems(visibleItems)
+                .onChange(onChange);
+        }
+        
+        private PickerModel<T> model() {
+            if (model == null) {
+                model = new PickerModel<>(values, formatter);
+            }
+            return model;
+        }
+        
+        @Override
+        public void stageDefault() {
+            if (defaultValue != null) {
+                stagedSetter(getter, setter).accept(defaultValue);
+            }
         }
     }
     
     // Color picker builder implementation
-    static class ColorPickerBuilderImpl implements ColorPickerBuilder, OptionBuilderData {
-        private Component name = Component.empty();
-        private @Nullable Component description;
-        private Supplier<Integer> getter = () -> 0xFFFFFFFF;
-        private Consumer<Integer> setter = v -> {};
+    static class ColorPickerBuilderImpl extends OptionDescriptor<ColorPickerWidget> implements ColorPickerBuilder {
+        private IntSupplier getter = () -> 0xFFFFFFFF;
+        private IntConsumer setter = v -> {};
         private int defaultValue = 0xFFFFFFFF;
         private boolean allowAlpha = false;
         private boolean liveUpdate = false;
-        private boolean requiresRestart = false;
-        private @Nullable Consumer<Integer> onChange;
+        private @Nullable IntConsumer onChange;
         private boolean showHexInput = true;
         private int[] presets;
         
@@ -538,7 +860,7 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         @Override
         public ColorPickerBuilder description(String key) { this.description = Component.translatable(key); return this; }
         @Override
-        public ColorPickerBuilder binding(Supplier<Integer> getter, Consumer<Integer> setter) {
+        public ColorPickerBuilder bindingAsInt(IntSupplier getter, IntConsumer setter) {
             this.getter = getter; this.setter = setter; return this;
         }
         @Override
@@ -550,42 +872,76 @@ public class ConfigScreenBuilderImpl implements ConfigScreenBuilder {
         @Override
         public ColorPickerBuilder requiresRestart(boolean required) { this.requiresRestart = required; return this; }
         @Override
-        public ColorPickerBuilder onChange(Consumer<Integer> callback) { this.onChange = callback; return this; }
+        public ColorPickerBuilder onChangeAsInt(IntConsumer callback) { this.onChange = callback; return this; }
         @Override
         public ColorPickerBuilder showHexInput(boolean show) { this.showHexInput = show; return this; }
         @Override
         public ColorPickerBuilder presets(int... colors) { this.presets = colors; return this; }
         
         @Override
-        public OptionWidget build(Dim2i dim, ThemeData theme) {
-            ColorPickerWidget widget = new ColorPickerWidget(dim, theme, name)
-                .binding(getter, setter)
+        public Class<?> widgetType() { return ColorPickerWidget.class; }
+        
+        @Override
+        protected ColorPickerWidget createWidget(Dim2i dim, ThemeData theme) {
+            return new ColorPickerWidget(dim, theme, name);
+        }
+        
+        @Override
+        protected void bind(ColorPickerWidget widget) {
+            widget.binding(liveUpdate ? getter : stagedGetter(getter), liveUpdate ? setter : stagedSetter(getter, setter))
                 .defaultValue(defaultValue)
                 .allowAlpha(allowAlpha)
                 .liveUpdate(liveUpdate)
-                .showHexInput(showHexInput);
-            
-            if (presets != null) widget.presets(presets);
-            if (onChange != null) widget.onChange(onChange);
-            widget.setDescription(description);
-            widget.setRequiresRestart(requiresRestart);
-            return widget;
+                .showHexInput(showHexInput)
+                .presets(presets)
+                .onChange(onChange);
+        }
+        
+        @Override
+        public void stageDefault() {
+            (liveUpdate ? setter : stagedSetter(getter, setter)).accept(defaultValue);
         }
     }
     
     // Separator placeholder
-    record SeparatorData() implements OptionBuilderData {
+    static class SeparatorData extends OptionDescriptor<SeparatorWidget> {
+        SeparatorData() {
+            this.rowHeight = SeparatorWidget.PREFERRED_ROW_HEIGHT;
+        }
+        
         @Override
-        public OptionWidget build(Dim2i dim, ThemeData theme) {
+        public Class<?> widgetType() { return SeparatorWidget.class; }
+        
+        @Override
+        protected SeparatorWidget createWidget(Dim2i dim, ThemeData theme) {
             return new SeparatorWidget(dim, theme);
         }
+        
+        @Override
+        protected void bind(SeparatorWidget widget) {
+            // Nothing to bind
+        }
     }
     
     // Label placeholder
-    record LabelData(Component text) implements OptionBuilderData {
+    static class LabelData extends OptionDescriptor<LabelWidget> {
+        private final Component text;
+        
+        LabelData(Component text) {
+            this.text = text;
+        }
+        
+        @Override
+        public Class<?> widgetType() { return LabelWidget.class; }
+        
         @Override
-        public OptionWidget build(Dim2i dim, ThemeData theme) {
+        protected LabelWidget createWidget(Dim2i dim, ThemeData theme) {
             return new LabelWidget(dim, theme, text);
         }
+        
+        @Override
+        protected void bind(LabelWidget widget) {
+            widget.setText(text);
+        }
     }
 }
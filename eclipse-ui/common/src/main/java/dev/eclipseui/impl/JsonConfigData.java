@@ -0,0 +1,574 @@
+package dev.eclipseui.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import dev.eclipsecore.io.BulkConfigLoader;
+import dev.eclipsecore.io.ChangeJournal;
+import dev.eclipsecore.io.ConfigIoScheduler;
+import dev.eclipseui.EclipseUI;
+import dev.eclipseui.api.ConfigData;
+import dev.eclipseui.api.function.BooleanConsumer;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * ConfigData that stores values as a JSON object in a file.
+ * Each value is registered under a key with its getter, setter and default, and is written and
+ * read with Gson's streaming writer and reader, so no reflection is involved. Values are
+ * registered before {@link #load()}, so the file is applied at startup.
+ *
+ * <p>Keys in the file without a registered value are kept as raw JSON. They are applied when
+ * the key is registered and written back on save, so values registered late, or by a newer
+ * version of the mod, survive a save.</p>
+ *
+ * <p>Files are written through the shared {@link ConfigIoScheduler}. {@link #saveAsync()} reads
+ * the values on the calling thread and queues the write there, where it is merged with other
+ * saves of the same file and batched with those of other configs.</p>
+ *
+ * <p>With {@link #journal(long, int)}, a save appends only the values that changed to a journal
+ * next to the file instead of rewriting it.</p>
+ *
+ * <p>{@link #loadAsync()} loads on a {@link BulkConfigLoader} thread, in parallel with other
+ * configs. Registering values, saving and loading again wait for it to finish.</p>
+ */
+public class JsonConfigData implements ConfigData {
+    
+    private final Path path;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    // Values from the file for keys that had no entry, as raw JSON
+    private final Map<String, String> unclaimed = new LinkedHashMap<>();
+    private boolean dirty = false;
+    private final List<Consumer<ConfigData>> changeListeners = new ArrayList<>();
+    
+    // Journaled mode, see journal(long, int)
+    private @Nullable ChangeJournal journal;
+    private long journalMaxBytes;
+    private int journalMaxRecords;
+    // Raw JSON of each value as the file and journal hold it; guarded by itself
+    private final Map<String, String> persisted = new HashMap<>();
+    
+    // Load started by loadAsync() that may still be running
+    private volatile @Nullable CompletableFuture<Void> loading;
+    
+    public JsonConfigData(Path path) {
+        this.path = path;
+    }
+    
+    public Path getPath() {
+        return path;
+    }
+    
+    /**
+     * Save by appending the values that changed to {@code <file>.journal} instead of rewriting
+     * the file. The journal is replayed on load, and folded into the file once it is larger than
+     * {@code maxBytes} or holds more than {@code maxRecords} saves. Call before {@link #load()}.
+     */
+    public JsonConfigData journal(long maxBytes, int maxRecords) {
+        awaitLoaded();
+        this.journal = new ChangeJournal(path.resolveSibling(path.getFileName() + ".journal"));
+        this.journalMaxBytes = maxBytes;
+        this.journalMaxRecords = maxRecords;
+        return this;
+    }
+    
+    /**
+     * Register a boolean value.
+     */
+    public JsonConfigData bool(String key, boolean defaultValue, BooleanSupplier getter, BooleanConsumer setter) {
+        return register(key,
+            () -> {
+                boolean value = getter.getAsBoolean();
+                return out -> out.value(value);
+            },
+            in -> setter.accept(in.nextBoolean()),
+            () -> setter.accept(defaultValue));
+    }
+    
+    /**
+     * Register an int value.
+     */
+    public JsonConfigData integer(String key, int defaultValue, IntSupplier getter, IntConsumer setter) {
+        return register(key,
+            () -> {
+                int value = getter.getAsInt();
+                return out -> out.value(value);
+            },
+            in -> setter.accept(in.nextInt()),
+            () -> setter.accept(defaultValue));
+    }
+    
+    /**
+     * Register a double value. NaN and infinities can't be written as JSON; the default is saved instead.
+     */
+    public JsonConfigData decimal(String key, double defaultValue, DoubleSupplier getter, DoubleConsumer setter) {
+        return register(key,
+            () -> {
+                double value = getter.getAsDouble();
+                if (!Double.isFinite(value)) {
+                    // JsonWriter would throw and fail the whole save
+                    invalid(key, Double.toString(value));
+                    value = defaultValue;
+                }
+                double written = value;
+                return out -> out.value(written);
+            },
+            in -> setter.accept(in.nextDouble()),
+            () -> setter.accept(defaultValue));
+    }
+    
+    /**
+     * Register an ARGB color, stored as a {@code "#AARRGGBB"} string.
+     */
+    public JsonConfigData color(String key, int defaultValue, IntSupplier getter, IntConsumer setter) {
+        return register(key,
+            () -> {
+                int value = getter.getAsInt();
+                return out -> out.value(String.format("#%08X", value));
+            },
+            in -> {
+                if (in.peek() == JsonToken.NUMBER) {
+                    setter.accept(in.nextInt());
+                    return;
+                }
+                String text = in.nextString();
+                try {
+                    setter.accept(Integer.parseUnsignedInt(text.startsWith("#") ? text.substring(1) : text, 16));
+                } catch (NumberFormatException e) {
+                    invalid(key, text);
+                }
+            },
+            () -> setter.accept(defaultValue));
+    }
+    
+    /**
+     * Register a string value.
+     */
+    public JsonConfigData string(String key, String defaultValue, Supplier<String> getter, Consumer<String> setter) {
+        return register(key,
+            () -> {
+                String value = getter.get();
+                return out -> out.value(value);
+            },
+            in -> setter.accept(in.nextString()),
+            () -> setter.accept(defaultValue));
+    }
+    
+    /**
+     * Register an enum value, stored by constant name.
+     */
+    public <E extends Enum<E>> JsonConfigData enumValue(String key, Class<E> type, @Nullable E defaultValue,
+                                                        Supplier<E> getter, Consumer<E> setter) {
+        // Looked up once here rather than through Enum.valueOf on every load
+        Map<String, E> byName = new HashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            byName.put(constant.name(), constant);
+        }
+        return value(key, defaultValue, getter, setter, Enum::name, byName::get);
+    }
+    
+    /**
+     * Register a value stored as a string.
+     *
+     * @param parser returns null for text that is not a valid value
+     */
+    public <T> JsonConfigData value(String key, @Nullable T defaultValue, Supplier<T> getter, Consumer<T> setter,
+                                    Function<T, String> formatter, Function<String, T> parser) {
+        return register(key,
+            () -> {
+                T value = getter.get();
+                String text = value != null ? formatter.apply(value) : null;
+                return out -> out.value(text);
+            },
+            in -> {
+                String text = in.nextString();
+                T value = parse(parser, text);
+                if (value != null) {
+                    setter.accept(value);
+                } else {
+                    invalid(key, text);
+                }
+            },
+            () -> {
+                if (defaultValue != null) {
+                    setter.accept(defaultValue);
+                }
+            });
+    }
+    
+    /**
+     * Register a list, stored as an array of strings. Entries that don't parse are dropped.
+     *
+     * @param parser returns null (or throws) for text that is not a valid entry
+     */
+    public <T> JsonConfigData list(String key, List<T> defaultValue, Supplier<List<T>> getter, Consumer<List<T>> setter,
+                                   Function<T, String> formatter, Function<String, T> parser) {
+        return register(key,
+            () -> {
+                List<T> value = getter.get();
+                String[] texts = new String[value.size()];
+                for (int i = 0; i < texts.length; i++) {
+                    texts[i] = formatter.apply(value.get(i));
+                }
+                return out -> {
+                    out.beginArray();
+                    for (String text : texts) {
+                        out.value(text);
+                    }
+                    out.endArray();
+                };
+            },
+            in -> {
+                // Read the array whole, so a bad entry can't leave the reader inside it
+                JsonElement array = JsonParser.parseReader(in);
+                if (!array.isJsonArray()) {
+                    invalid(key, array.toString());
+                    return;
+                }
+                List<T> list = new ArrayList<>(array.getAsJsonArray().size());
+                for (JsonElement element : array.getAsJsonArray()) {
+                    T entry = element.isJsonPrimitive() ? parse(parser, element.getAsString()) : null;
+                    if (entry != null) {
+                        list.add(entry);
+                    } else {
+                        invalid(key, element.toString());
+                    }
+                }
+                setter.accept(list);
+            },
+            () -> setter.accept(new ArrayList<>(defaultValue)));
+    }
+    
+    private JsonConfigData register(String key, ValueCapture capture, ValueReader reader, Runnable reset) {
+        awaitLoaded();
+        Entry entry = new Entry(capture, reader, reset);
+        entries.put(key, entry);
+        
+        // A value loaded before the key was registered
+        String raw = unclaimed.remove(key);
+        if (raw != null) {
+            readRaw(key, entry, raw);
+        }
+        return this;
+    }
+    
+    private void readRaw(String key, Entry entry, String raw) {
+        try (JsonReader in = new JsonReader(new StringReader(raw))) {
+            readValue(key, entry, in);
+        } catch (IOException | RuntimeException e) {
+            invalid(key, raw);
+        }
+    }
+    
+    private static <T> @Nullable T parse(Function<String, T> parser, String text) {
+        try {
+            return parser.apply(text);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private void invalid(String key, String value) {
+        EclipseUI.getLogger().warn("Ignoring invalid value {} for '{}' in {}", value, key, path);
+    }
+    
+    private void readValue(String key, Entry entry, JsonReader in) throws IOException {
+        try {
+            entry.reader().read(in);
+        } catch (IllegalStateException | NumberFormatException e) {
+            // Wrong type: the reader fails before consuming the value, so it can be skipped
+            invalid(key, in.peek().toString());
+            in.skipValue();
+        }
+    }
+    
+    @Override
+    public void load() {
+        awaitLoaded();
+        read();
+    }
+    
+    /**
+     * Load in the background through the {@link BulkConfigLoader}, e.g. from a mod initializer.
+     * Values registered before this call are set on the loader thread; values registered later
+     * are set when they register, after waiting for the load.
+     *
+     * @return completes when the values are loaded
+     */
+    public CompletableFuture<Void> loadAsync() {
+        awaitLoaded();
+        CompletableFuture<Void> future = BulkConfigLoader.get().submit(path.toString(), this::read);
+        loading = future;
+        return future;
+    }
+    
+    /**
+     * Wait for a load started by {@link #loadAsync()} to finish.
+     */
+    public void awaitLoaded() {
+        CompletableFuture<Void> future = loading;
+        if (future != null) {
+            try {
+                future.join();
+            } catch (CompletionException | CancellationException e) {
+                // Logged by the loader
+            }
+            loading = null;
+        }
+    }
+    
+    private void read() {
+        long start = System.nanoTime();
+        
+        if (journal == null) {
+            if (Files.exists(path)) {
+                readFile();
+            }
+        } else {
+            // Under the file's I/O lock: a save must not append or compact between reading the
+            // file and replaying the journal
+            try {
+                ConfigIoScheduler.get().runLocked(path, target -> {
+                    if (Files.exists(path)) {
+                        readFile();
+                    }
+                    replayJournal();
+                });
+            } catch (IOException e) {
+                EclipseUI.getLogger().error("Failed to load config {}", path, e);
+            }
+        }
+        clearDirty();
+        
+        EclipseUI.getLogger().debug("Loaded {} in {} ms", path, (System.nanoTime() - start) / 1_000_000.0);
+    }
+    
+    private void readFile() {
+        try (JsonReader in = new JsonReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                String key = in.nextName();
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    readValue(key, entry, in);
+                } else {
+                    unclaimed.put(key, JsonParser.parseReader(in).toString());
+                }
+            }
+            in.endObject();
+        } catch (IOException | RuntimeException e) {
+            EclipseUI.getLogger().error("Failed to load config {}", path, e);
+        }
+    }
+    
+    private void replayJournal() {
+        try {
+            int records = journal.replay((key, raw) -> {
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    readRaw(key, entry, raw);
+                } else {
+                    unclaimed.put(key, raw);
+                }
+            });
+            EclipseUI.getLogger().debug("Replayed {} journal record(s) for {}", records, path);
+            
+            // What was just read is what is on disk
+            Map<String, String> values = snapshot().toJson();
+            synchronized (persisted) {
+                persisted.clear();
+                persisted.putAll(values);
+            }
+        } catch (IOException | RuntimeException e) {
+            EclipseUI.getLogger().error("Failed to replay journal {}", journal.getPath(), e);
+        }
+    }
+    
+    @Override
+    public void save() {
+        awaitLoaded();
+        long start = System.nanoTime();
+        Snapshot snapshot = snapshot();
+        try {
+            ConfigIoScheduler.get().runNow(path, target -> persist(target, snapshot));
+            clearDirty();
+        } catch (IOException | RuntimeException e) {
+            EclipseUI.getLogger().error("Failed to save config {}", path, e);
+            return;
+        }
+        
+        EclipseUI.getLogger().debug("Saved {} in {} ms", path, (System.nanoTime() - start) / 1_000_000.0);
+    }
+    
+    /**
+     * Save without blocking. The values are read now, on the calling thread, and written by the
+     * {@link ConfigIoScheduler} shortly after.
+     *
+     * @return completes when the values are on disk, exceptionally if writing failed
+     */
+    @Override
+    public CompletableFuture<Void> saveAsync() {
+        awaitLoaded();
+        Snapshot snapshot = snapshot();
+        clearDirty();
+        return ConfigIoScheduler.get().submitTask(path, target -> persist(target, snapshot));
+    }
+    
+    // Runs on the I/O scheduler, one at a time for this file
+    private void persist(Path target, Snapshot snapshot) throws IOException {
+        if (journal == null) {
+            ConfigIoScheduler.replace(target, out -> write(snapshot, new JsonWriter(out)));
+            return;
+        }
+        
+        Map<String, String> changes = new LinkedHashMap<>();
+        synchronized (persisted) {
+            for (Map.Entry<String, String> value : snapshot.toJson().entrySet()) {
+                if (!value.getValue().equals(persisted.get(value.getKey()))) {
+                    changes.put(value.getKey(), value.getValue());
+                }
+            }
+        }
+        
+        // The journal is written first: if writing the file is cut short, replaying the journal
+        // over either the old or the new file gives the same values
+        journal.append(changes);
+        if (journal.exceeds(journalMaxBytes, journalMaxRecords) || !Files.exists(target)) {
+            long start = System.nanoTime();
+            ConfigIoScheduler.replace(target, out -> write(snapshot, new JsonWriter(out)));
+            journal.clear();
+            EclipseUI.getLogger().debug("Compacted {} in {} ms", path, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        synchronized (persisted) {
+            persisted.putAll(changes);
+        }
+    }
+    
+    /**
+     * Capture the current values, to be written later from any thread.
+     */
+    private Snapshot snapshot() {
+        String[] keys = new String[entries.size()];
+        ValueWriter[] values = new ValueWriter[keys.length];
+        int i = 0;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue().capture().capture();
+            i++;
+        }
+        return new Snapshot(keys, values, new LinkedHashMap<>(unclaimed));
+    }
+    
+    /**
+     * Write a snapshot as one JSON object, registered keys first in registration order.
+     */
+    private static void write(Snapshot snapshot, JsonWriter out) throws IOException {
+        out.setIndent("  ");
+        out.beginObject();
+        for (int i = 0; i < snapshot.keys().length; i++) {
+            out.name(snapshot.keys()[i]);
+            snapshot.values()[i].write(out);
+        }
+        for (Map.Entry<String, String> entry : snapshot.unclaimed().entrySet()) {
+            out.name(entry.getKey());
+            out.jsonValue(entry.getValue());
+        }
+        out.endObject();
+    }
+    
+    @Override
+    public void resetToDefaults() {
+        awaitLoaded();
+        for (Entry entry : entries.values()) {
+            entry.reset().run();
+        }
+        markDirty();
+    }
+    
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+    
+    @Override
+    public void markDirty() {
+        this.dirty = true;
+        for (Consumer<ConfigData> listener : changeListeners) {
+            listener.accept(this);
+        }
+    }
+    
+    @Override
+    public void clearDirty() {
+        this.dirty = false;
+    }
+    
+    @Override
+    public void addChangeListener(Consumer<ConfigData> listener) {
+        changeListeners.add(listener);
+    }
+    
+    @Override
+    public void removeChangeListener(Consumer<ConfigData> listener) {
+        changeListeners.remove(listener);
+    }
+    
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(JsonWriter out) throws IOException;
+    }
+    
+    @FunctionalInterface
+    private interface ValueCapture {
+        ValueWriter capture();
+    }
+    
+    @FunctionalInterface
+    private interface ValueReader {
+        void read(JsonReader in) throws IOException;
+    }
+    
+    private record Entry(ValueCapture capture, ValueReader reader, Runnable reset) {
+    }
+    
+    private record Snapshot(String[] keys, ValueWriter[] values, Map<String, String> unclaimed) {
+        
+        /**
+         * Each value as raw JSON, by key.
+         */
+        Map<String, String> toJson() throws IOException {
+            Map<String, String> json = new LinkedHashMap<>(unclaimed);
+            for (int i = 0; i < keys.length; i++) {
+                StringWriter text = new StringWriter();
+                values[i].write(new JsonWriter(text));
+                json.put(keys[i], text.toString());
+            }
+            return json;
+        }
+    }
+    
+}
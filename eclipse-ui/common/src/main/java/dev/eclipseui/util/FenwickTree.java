@@ -0,0 +1,133 @@
+package dev.eclipseui.util;
+
+import java.util.Arrays;
+
+/**
+ * A growable Fenwick tree (binary indexed tree) over non-negative ints.
+ * Supports O(log n) point updates, prefix sums and offset-to-index lookups,
+ * which is what variable-height list layouts need.
+ */
+public final class FenwickTree {
+    
+    private int[] values;
+    private int[] tree;
+    private int size;
+    
+    public FenwickTree() {
+        this(16);
+    }
+    
+    public FenwickTree(int capacity) {
+        this.values = new int[Math.max(1, capacity)];
+        this.tree = new int[this.values.length + 1];
+    }
+    
+    /**
+     * Returns the number of elements.
+     */
+    public int size() {
+        return this.size;
+    }
+    
+    /**
+     * Removes all elements, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.values, 0, this.size, 0);
+        Arrays.fill(this.tree, 0, this.size + 1, 0);
+        this.size = 0;
+    }
+    
+    /**
+     * Appends an element in O(log n).
+     */
+    public void add(int value) {
+        if (this.size == this.values.length) {
+            grow();
+        }
+        int pos = this.size + 1;
+        this.values[this.size++] = value;
+        // tree[pos] covers (pos - lowbit(pos), pos]
+        this.tree[pos] = value + prefixSum(pos - 1) - prefixSum(pos - (pos & -pos));
+    }
+    
+    public int get(int index) {
+        checkIndex(index);
+        return this.values[index];
+    }
+    
+    /**
+     * Replaces the element at the given index in O(log n).
+     */
+    public void set(int index, int value) {
+        checkIndex(index);
+        int delta = value - this.values[index];
+        if (delta == 0) {
+            return;
+        }
+        this.values[index] = value;
+        for (int pos = index + 1; pos <= this.size; pos += pos & -pos) {
+            this.tree[pos] += delta;
+        }
+    }
+    
+    /**
+     * Returns the sum of the first {@code count} elements.
+     */
+    public int prefixSum(int count) {
+        int sum = 0;
+        for (int pos = Math.min(count, this.size); pos > 0; pos -= pos & -pos) {
+            sum += this.tree[pos];
+        }
+        return sum;
+    }
+    
+    /**
+     * Returns the sum of all elements.
+     */
+    public int total() {
+        return prefixSum(this.size);
+    }
+    
+    /**
+     * Returns the index of the element whose span contains the given offset,
+     * i.e. the largest index with {@code prefixSum(index) <= offset}, skipping zero-sized elements.
+     * Returns {@code size()} if the offset is past the end, and 0 for negative offsets.
+     */
+    public int findIndex(int offset) {
+        if (offset < 0) {
+            return 0;
+        }
+        int pos = 0;
+        int remaining = offset;
+        for (int step = Integer.highestOneBit(Math.max(1, this.size)); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= this.size && this.tree[next] <= remaining) {
+                pos = next;
+                remaining -= this.tree[next];
+            }
+        }
+        return pos;
+    }
+    
+    private void grow() {
+        int capacity = this.values.length * 2;
+        this.values = Arrays.copyOf(this.values, capacity);
+        int[] newTree = new int[capacity + 1];
+        // Rebuild in O(n): every node pushes its sum to its parent
+        for (int i = 1; i <= this.size; i++) {
+            newTree[i] += this.values[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= this.size) {
+                newTree[parent] += newTree[i];
+            }
+        }
+        this.tree = newTree;
+    }
+    
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        }
+    }
+}
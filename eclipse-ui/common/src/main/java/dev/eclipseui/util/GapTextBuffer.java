@@ -0,0 +1,268 @@
+package dev.eclipseui.util;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Editable text backed by a gap buffer, with per-character widths kept in a Fenwick tree
+ * over the same buffer slots (gap slots have width 0). A surrogate pair is measured as one
+ * code point: its high surrogate's slot holds the pair's width and the low one's holds 0.
+ * Edits at the cursor cost O(k log n) for k characters, plus moving the gap when the cursor jumps;
+ * prefix widths and width-to-index lookups are O(log n).
+ */
+public final class GapTextBuffer implements CharSequence {
+    
+    private final IntUnaryOperator charWidth;
+    
+    private char[] chars;
+    private FenwickTree widths;
+    private int gapStart;
+    private int gapEnd;
+    
+    // Cached result of toString(), cleared on every edit
+    private String text;
+    
+    /**
+     * @param charWidth measures the advance of a single code point
+     */
+    public GapTextBuffer(IntUnaryOperator charWidth) {
+        this.charWidth = charWidth;
+        this.chars = new char[16];
+        this.widths = zeroTree(this.chars.length);
+        this.gapStart = 0;
+        this.gapEnd = this.chars.length;
+    }
+    
+    @Override
+    public int length() {
+        return this.chars.length - (this.gapEnd - this.gapStart);
+    }
+    
+    @Override
+    public char charAt(int index) {
+        checkIndex(index, length() - 1);
+        return this.chars[physical(index)];
+    }
+    
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return substring(start, end);
+    }
+    
+    public String substring(int start, int end) {
+        checkRange(start, end);
+        StringBuilder builder = new StringBuilder(end - start);
+        appendRange(builder, start, end);
+        return builder.toString();
+    }
+    
+    @Override
+    public String toString() {
+        if (this.text == null) {
+            StringBuilder builder = new StringBuilder(length());
+            appendRange(builder, 0, length());
+            this.text = builder.toString();
+        }
+        return this.text;
+    }
+    
+    /**
+     * Replace the whole content.
+     */
+    public void set(String value) {
+        int needed = value.length() + 16;
+        if (needed > this.chars.length) {
+            this.chars = new char[Math.max(needed, this.chars.length * 2)];
+        }
+        value.getChars(0, value.length(), this.chars, 0);
+        this.gapStart = value.length();
+        this.gapEnd = this.chars.length;
+        remeasure();
+        this.text = value;
+    }
+    
+    /**
+     * Insert text at the given index.
+     */
+    public void insert(int index, CharSequence value) {
+        checkIndex(index, length());
+        int count = value.length();
+        if (count == 0) {
+            return;
+        }
+        ensureGap(count);
+        moveGap(index);
+        for (int i = 0; i < count; i++) {
+            this.chars[this.gapStart++] = value.charAt(i);
+        }
+        // A surrogate at either edge may pair with a neighbour, so those are measured again too
+        remeasure(Math.max(index - 1, 0), Math.min(index + count + 1, length()));
+        this.text = null;
+    }
+    
+    /**
+     * Delete the characters in {@code [start, end)}.
+     */
+    public void delete(int start, int end) {
+        checkRange(start, end);
+        if (start == end) {
+            return;
+        }
+        moveGap(end);
+        for (int i = start; i < end; i++) {
+            this.widths.set(i, 0);
+        }
+        this.gapStart = start;
+        // The characters on either side may now form or split a surrogate pair
+        remeasure(Math.max(start - 1, 0), Math.min(start + 1, length()));
+        this.text = null;
+    }
+    
+    /**
+     * Width of the first {@code count} characters.
+     */
+    public int prefixWidth(int count) {
+        checkIndex(count, length());
+        return this.widths.prefixSum(physicalEnd(count));
+    }
+    
+    /**
+     * Width of the whole text.
+     */
+    public int totalWidth() {
+        return this.widths.total();
+    }
+    
+    /**
+     * Index of the character whose span contains the given horizontal offset,
+     * or {@link #length()} if the offset is past the end.
+     */
+    public int indexAtWidth(int offset) {
+        int slot = this.widths.findIndex(offset);
+        if (slot >= this.gapEnd) {
+            return slot - (this.gapEnd - this.gapStart);
+        }
+        // Offsets can only land in the gap when they are past the text before it
+        return Math.min(slot, this.gapStart);
+    }
+    
+    /**
+     * Width of a single character. For a surrogate pair this is the pair's width on the high
+     * surrogate and 0 on the low one.
+     */
+    public int charWidth(int index) {
+        checkIndex(index, length() - 1);
+        return this.widths.get(physical(index));
+    }
+    
+    /**
+     * Re-measure every character, e.g. after the font changed.
+     */
+    public void remeasure() {
+        this.widths = zeroTree(this.chars.length);
+        remeasure(0, length());
+    }
+    
+    private void remeasure(int start, int end) {
+        int length = length();
+        for (int i = start; i < end; i++) {
+            char c = this.chars[physical(i)];
+            int width;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(this.chars[physical(i + 1)])) {
+                width = this.charWidth.applyAsInt(Character.toCodePoint(c, this.chars[physical(i + 1)]));
+            } else if (Character.isLowSurrogate(c) && i > 0 && Character.isHighSurrogate(this.chars[physical(i - 1)])) {
+                width = 0;
+            } else {
+                width = this.charWidth.applyAsInt(c);
+            }
+            this.widths.set(physical(i), width);
+        }
+    }
+    
+    private int physical(int index) {
+        return index < this.gapStart ? index : index + (this.gapEnd - this.gapStart);
+    }
+    
+    // Slot count covering the first count characters
+    private int physicalEnd(int count) {
+        return count <= this.gapStart ? count : count + (this.gapEnd - this.gapStart);
+    }
+    
+    private void appendRange(StringBuilder builder, int start, int end) {
+        if (start < this.gapStart) {
+            int beforeGap = Math.min(end, this.gapStart);
+            builder.append(this.chars, start, beforeGap - start);
+        }
+        if (end > this.gapStart) {
+            int from = Math.max(start, this.gapStart);
+            int gap = this.gapEnd - this.gapStart;
+            builder.append(this.chars, from + gap, end - from);
+        }
+    }
+    
+    private void moveGap(int index) {
+        if (this.gapStart == this.gapEnd) {
+            // Empty gap: nothing to copy, it just sits at the new index
+            this.gapStart = index;
+            this.gapEnd = index;
+        } else if (index < this.gapStart) {
+            int count = this.gapStart - index;
+            int gap = this.gapEnd - this.gapStart;
+            for (int i = count - 1; i >= 0; i--) {
+                int from = index + i;
+                int to = from + gap;
+                this.chars[to] = this.chars[from];
+                this.widths.set(to, this.widths.get(from));
+                this.widths.set(from, 0);
+            }
+            this.gapStart -= count;
+            this.gapEnd -= count;
+        } else if (index > this.gapStart) {
+            int count = index - this.gapStart;
+            int gap = this.gapEnd - this.gapStart;
+            for (int i = 0; i < count; i++) {
+                int to = this.gapStart + i;
+                int from = to + gap;
+                this.chars[to] = this.chars[from];
+                this.widths.set(to, this.widths.get(from));
+                this.widths.set(from, 0);
+            }
+            this.gapStart += count;
+            this.gapEnd += count;
+        }
+    }
+    
+    private void ensureGap(int needed) {
+        if (this.gapEnd - this.gapStart >= needed) {
+            return;
+        }
+        int length = length();
+        int capacity = Math.max(this.chars.length * 2, length + needed + 16);
+        char[] grown = new char[capacity];
+        int tail = this.chars.length - this.gapEnd;
+        System.arraycopy(this.chars, 0, grown, 0, this.gapStart);
+        System.arraycopy(this.chars, this.gapEnd, grown, capacity - tail, tail);
+        this.chars = grown;
+        this.gapEnd = capacity - tail;
+        remeasure();
+    }
+    
+    private static FenwickTree zeroTree(int size) {
+        FenwickTree tree = new FenwickTree(size);
+        for (int i = 0; i < size; i++) {
+            tree.add(0);
+        }
+        return tree;
+    }
+    
+    private void checkIndex(int index, int max) {
+        if (index < 0 || index > max) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length());
+        }
+    }
+    
+    private void checkRange(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dev.eclipseui.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Case-insensitive substring search over a fixed list of strings.
+ * Every 1, 2 and 3 character gram of each string maps to a sorted list of the strings
+ * containing it. A query intersects the lists of its grams, shortest first, and only the
+ * surviving candidates are checked with a real substring test.
+ */
+public final class NgramIndex {
+    
+    private static final int MAX_GRAM = 3;
+    private static final int[] EMPTY = new int[0];
+    
+    private final String[] folded;
+    private final Map<String, int[]> postings;
+    
+    public NgramIndex(List<String> values) {
+        this.folded = new String[values.size()];
+        Map<String, IntList> building = new HashMap<>();
+        for (int i = 0; i < this.folded.length; i++) {
+            String value = fold(values.get(i));
+            this.folded[i] = value;
+            for (int length = 1; length <= MAX_GRAM; length++) {
+                for (int start = 0; start + length <= value.length(); start++) {
+                    building.computeIfAbsent(value.substring(start, start + length), k -> new IntList()).addOnce(i);
+                }
+            }
+        }
+        
+        this.postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        for (Map.Entry<String, IntList> entry : building.entrySet()) {
+            this.postings.put(entry.getKey(), entry.getValue().toArray());
+        }
+    }
+    
+    /**
+     * Case-fold a string the way the index does.
+     */
+    public static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+    
+    public int size() {
+        return this.folded.length;
+    }
+    
+    /**
+     * Indices of the strings containing the query, ignoring case.
+     * Strings starting with the query come first, then those where it starts a word,
+     * then the rest; each group stays in index order. An empty query matches everything.
+     */
+    public int[] search(String query) {
+        String q = fold(query);
+        if (q.isEmpty()) {
+            int[] all = new int[this.folded.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        
+        int[] candidates;
+        if (q.length() <= MAX_GRAM) {
+            // The query is itself a gram, its list is the exact answer
+            candidates = this.postings.getOrDefault(q, EMPTY);
+        } else {
+            int gramCount = q.length() - MAX_GRAM + 1;
+            int[][] lists = new int[gramCount][];
+            for (int i = 0; i < gramCount; i++) {
+                int[] list = this.postings.get(q.substring(i, i + MAX_GRAM));
+                if (list == null) {
+                    return EMPTY;
+                }
+                lists[i] = list;
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+            candidates = lists[0];
+            for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists[i]);
+            }
+        }
+        return rank(q, candidates);
+    }
+    
+    /**
+     * Keep the candidates that really contain the query, ordered by match quality.
+     */
+    private int[] rank(String q, int[] candidates) {
+        int[] ranks = new int[candidates.length];
+        int[] counts = new int[3];
+        for (int i = 0; i < candidates.length; i++) {
+            int rank = matchRank(this.folded[candidates[i]], q);
+            ranks[i] = rank;
+            if (rank >= 0) {
+                counts[rank]++;
+            }
+        }
+        
+        // Counting sort by rank keeps index order within each group
+        int[] result = new int[counts[0] + counts[1] + counts[2]];
+        int[] next = {0, counts[0], counts[0] + counts[1]};
+        for (int i = 0; i < candidates.length; i++) {
+            if (ranks[i] >= 0) {
+                result[next[ranks[i]]++] = candidates[i];
+            }
+        }
+        return result;
+    }
+    
+    // 0 for a prefix match, 1 for a match at a word start, 2 for any other match, -1 for none
+    private static int matchRank(String value, String q) {
+        int index = value.indexOf(q);
+        if (index < 0) {
+            return -1;
+        }
+        if (index == 0) {
+            return 0;
+        }
+        while (index > 0) {
+            if (!Character.isLetterOrDigit(value.charAt(index - 1))) {
+                return 1;
+            }
+            index = value.indexOf(q, index + 1);
+        }
+        return 2;
+    }
+    
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+    
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+        
+        // Strings are added in index order, so a repeat is always the last value
+        void addOnce(int value) {
+            if (this.size > 0 && this.values[this.size - 1] == value) {
+                return;
+            }
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = value;
+        }
+        
+        int[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
+    }
+}
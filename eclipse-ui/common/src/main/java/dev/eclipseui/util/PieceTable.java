@@ -0,0 +1,355 @@
+package dev.eclipseui.util;
+
+import java.util.Arrays;
+
+/**
+ * Multi-line text stored as a piece table, with an index of line start offsets.
+ * The original text is never copied; edits append to an add buffer and split pieces,
+ * and consecutive typing extends the last piece in place.
+ * Line lookups are O(1) by line number and O(log lines) by offset; an edit shifts the
+ * line starts after it in a single pass over the index.
+ */
+public final class PieceTable {
+    
+    // Compact into a single piece once edits have fragmented the text this much
+    private static final int MAX_PIECES = 1024;
+    
+    private String original;
+    private final StringBuilder added = new StringBuilder();
+    
+    // Pieces as parallel arrays: source buffer, start in that buffer, length
+    private boolean[] pieceAdded = new boolean[8];
+    private int[] pieceStart = new int[8];
+    private int[] pieceLength = new int[8];
+    private int pieceCount;
+    
+    private int length;
+    
+    // lineStarts[i] is the offset of the first character of line i; there is always at least one line
+    private int[] lineStarts = new int[16];
+    private int lineCount;
+    
+    // Cached result of toString(), cleared on every edit
+    private String text;
+    
+    public PieceTable() {
+        this("");
+    }
+    
+    public PieceTable(String text) {
+        set(text);
+    }
+    
+    /**
+     * Replace the whole content.
+     */
+    public void set(String value) {
+        this.original = value;
+        this.added.setLength(0);
+        this.pieceCount = 0;
+        if (!value.isEmpty()) {
+            insertPiece(0, false, 0, value.length());
+        }
+        this.length = value.length();
+        this.lineCount = 1;
+        this.lineStarts[0] = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '\n') {
+                appendLineStart(i + 1);
+            }
+        }
+        this.text = value;
+    }
+    
+    public int length() {
+        return this.length;
+    }
+    
+    public int lineCount() {
+        return this.lineCount;
+    }
+    
+    /**
+     * Offset of the first character of a line.
+     */
+    public int lineStart(int line) {
+        checkLine(line);
+        return this.lineStarts[line];
+    }
+    
+    /**
+     * Offset just past the last character of a line, excluding the line break.
+     */
+    public int lineEnd(int line) {
+        checkLine(line);
+        return line + 1 < this.lineCount ? this.lineStarts[line + 1] - 1 : this.length;
+    }
+    
+    /**
+     * Line containing the given offset.
+     */
+    public int lineOf(int offset) {
+        checkOffset(offset);
+        int index = Arrays.binarySearch(this.lineStarts, 0, this.lineCount, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+    
+    /**
+     * Get a line's text, without the line break.
+     */
+    public String line(int line) {
+        return substring(lineStart(line), lineEnd(line));
+    }
+    
+    public String substring(int start, int end) {
+        checkRange(start, end);
+        if (this.text != null) {
+            return this.text.substring(start, end);
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        appendRange(builder, start, end);
+        return builder.toString();
+    }
+    
+    public char charAt(int index) {
+        checkRange(index, index + 1);
+        if (this.text != null) {
+            return this.text.charAt(index);
+        }
+        int offset = 0;
+        for (int i = 0; i < this.pieceCount; i++) {
+            int pieceEnd = offset + this.pieceLength[i];
+            if (index < pieceEnd) {
+                int at = index - offset + this.pieceStart[i];
+                return this.pieceAdded[i] ? this.added.charAt(at) : this.original.charAt(at);
+            }
+            offset = pieceEnd;
+        }
+        throw new IllegalStateException("Pieces do not cover offset " + index);
+    }
+    
+    @Override
+    public String toString() {
+        if (this.text == null) {
+            StringBuilder builder = new StringBuilder(this.length);
+            appendRange(builder, 0, this.length);
+            this.text = builder.toString();
+        }
+        return this.text;
+    }
+    
+    /**
+     * Insert text at the given offset.
+     */
+    public void insert(int offset, CharSequence value) {
+        checkOffset(offset);
+        int count = value.length();
+        if (count == 0) {
+            return;
+        }
+        int addStart = this.added.length();
+        this.added.append(value);
+        
+        int piece = findPiece(offset);
+        int pieceOffset = pieceOffset(piece);
+        if (piece > 0 && offset == pieceOffset && this.pieceAdded[piece - 1]
+            && this.pieceStart[piece - 1] + this.pieceLength[piece - 1] == addStart) {
+            // Typing right after the previous insertion: extend its piece
+            this.pieceLength[piece - 1] += count;
+        } else if (offset == pieceOffset) {
+            insertPiece(piece, true, addStart, count);
+        } else {
+            // Split the piece around the insertion point
+            int head = offset - pieceOffset;
+            insertPiece(piece + 1, this.pieceAdded[piece], this.pieceStart[piece] + head, this.pieceLength[piece] - head);
+            this.pieceLength[piece] = head;
+            insertPiece(piece + 1, true, addStart, count);
+        }
+        this.length += count;
+        
+        // Shift later lines, then add the new line breaks
+        int line = lineOf(offset);
+        for (int i = line + 1; i < this.lineCount; i++) {
+            this.lineStarts[i] += count;
+        }
+        int newLines = 0;
+        for (int i = 0; i < count; i++) {
+            if (value.charAt(i) == '\n') {
+                newLines++;
+            }
+        }
+        if (newLines > 0) {
+            ensureLineCapacity(this.lineCount + newLines);
+            System.arraycopy(this.lineStarts, line + 1, this.lineStarts, line + 1 + newLines, this.lineCount - line - 1);
+            int next = line + 1;
+            for (int i = 0; i < count; i++) {
+                if (value.charAt(i) == '\n') {
+                    this.lineStarts[next++] = offset + i + 1;
+                }
+            }
+            this.lineCount += newLines;
+        }
+        
+        this.text = null;
+        compactIfFragmented();
+    }
+    
+    /**
+     * Delete the characters in {@code [start, end)}.
+     */
+    public void delete(int start, int end) {
+        checkRange(start, end);
+        int count = end - start;
+        if (count == 0) {
+            return;
+        }
+        
+        // Drop the line starts inside the deleted range, then shift the rest
+        int firstLine = lineOf(start);
+        int lastLine = lineOf(end);
+        int removedLines = lastLine - firstLine;
+        if (removedLines > 0) {
+            System.arraycopy(this.lineStarts, lastLine + 1, this.lineStarts, firstLine + 1, this.lineCount - lastLine - 1);
+            this.lineCount -= removedLines;
+        }
+        for (int i = firstLine + 1; i < this.lineCount; i++) {
+            this.lineStarts[i] -= count;
+        }
+        
+        // Cut the range out of the pieces, splitting at the edges
+        splitAt(end);
+        int first = splitAt(start);
+        int last = first;
+        int removed = 0;
+        while (last < this.pieceCount && removed < count) {
+            removed += this.pieceLength[last];
+            last++;
+        }
+        removePieces(first, last);
+        this.length -= count;
+        
+        this.text = null;
+    }
+    
+    private void appendRange(StringBuilder builder, int start, int end) {
+        int offset = 0;
+        for (int i = 0; i < this.pieceCount && offset < end; i++) {
+            int pieceEnd = offset + this.pieceLength[i];
+            if (pieceEnd > start) {
+                int from = Math.max(start, offset) - offset + this.pieceStart[i];
+                int to = Math.min(end, pieceEnd) - offset + this.pieceStart[i];
+                if (this.pieceAdded[i]) {
+                    builder.append(this.added, from, to);
+                } else {
+                    builder.append(this.original, from, to);
+                }
+            }
+            offset = pieceEnd;
+        }
+    }
+    
+    // Index of the piece containing the offset, or pieceCount at the end of the text
+    private int findPiece(int offset) {
+        int pos = 0;
+        for (int i = 0; i < this.pieceCount; i++) {
+            int pieceEnd = pos + this.pieceLength[i];
+            if (offset < pieceEnd) {
+                return i;
+            }
+            pos = pieceEnd;
+        }
+        return this.pieceCount;
+    }
+    
+    private int pieceOffset(int piece) {
+        int pos = 0;
+        for (int i = 0; i < piece; i++) {
+            pos += this.pieceLength[i];
+        }
+        return pos;
+    }
+    
+    /**
+     * Make sure a piece boundary falls at the offset.
+     *
+     * @return index of the piece starting at the offset
+     */
+    private int splitAt(int offset) {
+        int piece = findPiece(offset);
+        if (piece == this.pieceCount) {
+            return piece;
+        }
+        int head = offset - pieceOffset(piece);
+        if (head == 0) {
+            return piece;
+        }
+        insertPiece(piece + 1, this.pieceAdded[piece], this.pieceStart[piece] + head, this.pieceLength[piece] - head);
+        this.pieceLength[piece] = head;
+        return piece + 1;
+    }
+    
+    private void insertPiece(int index, boolean fromAdded, int start, int length) {
+        if (this.pieceCount == this.pieceStart.length) {
+            int capacity = this.pieceCount * 2;
+            this.pieceAdded = Arrays.copyOf(this.pieceAdded, capacity);
+            this.pieceStart = Arrays.copyOf(this.pieceStart, capacity);
+            this.pieceLength = Arrays.copyOf(this.pieceLength, capacity);
+        }
+        int tail = this.pieceCount - index;
+        System.arraycopy(this.pieceAdded, index, this.pieceAdded, index + 1, tail);
+        System.arraycopy(this.pieceStart, index, this.pieceStart, index + 1, tail);
+        System.arraycopy(this.pieceLength, index, this.pieceLength, index + 1, tail);
+        this.pieceAdded[index] = fromAdded;
+        this.pieceStart[index] = start;
+        this.pieceLength[index] = length;
+        this.pieceCount++;
+    }
+    
+    private void removePieces(int from, int to) {
+        int tail = this.pieceCount - to;
+        System.arraycopy(this.pieceAdded, to, this.pieceAdded, from, tail);
+        System.arraycopy(this.pieceStart, to, this.pieceStart, from, tail);
+        System.arraycopy(this.pieceLength, to, this.pieceLength, from, tail);
+        this.pieceCount -= to - from;
+    }
+    
+    private void compactIfFragmented() {
+        if (this.pieceCount > MAX_PIECES) {
+            // Line starts are unchanged, only the storage is rebuilt
+            String value = toString();
+            this.original = value;
+            this.added.setLength(0);
+            this.pieceCount = 0;
+            insertPiece(0, false, 0, value.length());
+        }
+    }
+    
+    private void appendLineStart(int offset) {
+        ensureLineCapacity(this.lineCount + 1);
+        this.lineStarts[this.lineCount++] = offset;
+    }
+    
+    private void ensureLineCapacity(int capacity) {
+        if (capacity > this.lineStarts.length) {
+            this.lineStarts = Arrays.copyOf(this.lineStarts, Math.max(capacity, this.lineStarts.length * 2));
+        }
+    }
+    
+    private void checkLine(int line) {
+        if (line < 0 || line >= this.lineCount) {
+            throw new IndexOutOfBoundsException("Line " + line + " out of bounds for " + this.lineCount + " lines");
+        }
+    }
+    
+    private void checkOffset(int offset) {
+        if (offset < 0 || offset > this.length) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " out of bounds for length " + this.length);
+        }
+    }
+    
+    private void checkRange(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + this.length);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package dev.eclipseui.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index for ranked word search over documents identified by number.
+ * Text is case-folded and split into words; each distinct word keeps a list of the
+ * documents containing it, with the highest field weight it appeared under. Query words
+ * are looked up in an {@link NgramIndex} over the vocabulary, so they match anywhere
+ * inside a word, and every query word must match for a document to be a hit.
+ */
+public final class SearchIndex {
+    
+    private final int documentCount;
+    private final String[] words;
+    private final NgramIndex vocabulary;
+    // Per word, parallel arrays of document ids (ascending) and weights
+    private final int[][] postingDocs;
+    private final int[][] postingWeights;
+    
+    // Scratch space reused across searches
+    private final int[] scores;
+    private final int[] wordScores;
+    private final int[] matchedWords;
+    private final int[] touched;
+    
+    private SearchIndex(int documentCount, String[] words, int[][] postingDocs, int[][] postingWeights) {
+        this.documentCount = documentCount;
+        this.words = words;
+        this.vocabulary = new NgramIndex(Arrays.asList(words));
+        this.postingDocs = postingDocs;
+        this.postingWeights = postingWeights;
+        this.scores = new int[documentCount];
+        this.wordScores = new int[documentCount];
+        this.matchedWords = new int[documentCount];
+        this.touched = new int[documentCount];
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public int documentCount() {
+        return this.documentCount;
+    }
+    
+    /**
+     * Split text into case-folded words.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String folded = NgramIndex.fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * Find the documents matching every word of the query, best first.
+     * A document scores its field weight for each query word, tripled for an exact word
+     * match and doubled for a match at the start of a word. Ties keep document order.
+     *
+     * @param limit maximum number of hits to return
+     */
+    public int[] search(String query, int limit) {
+        List<String> queryWords = tokenize(query);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        
+        // Candidates are the documents matching the first word; later words only narrow them
+        int[] candidates = new int[0];
+        int wordCount = queryWords.size();
+        for (int q = 0; q < wordCount; q++) {
+            String queryWord = queryWords.get(q);
+            int touchedCount = 0;
+            for (int word : this.vocabulary.search(queryWord)) {
+                int factor = this.words[word].equals(queryWord) ? 3 : this.words[word].startsWith(queryWord) ? 2 : 1;
+                int[] docs = this.postingDocs[word];
+                int[] weights = this.postingWeights[word];
+                for (int i = 0; i < docs.length; i++) {
+                    int doc = docs[i];
+                    if (this.matchedWords[doc] != q) {
+                        // Missed an earlier query word
+                        continue;
+                    }
+                    if (this.wordScores[doc] == 0) {
+                        this.touched[touchedCount++] = doc;
+                    }
+                    // A document counts its best matching word once per query word
+                    this.wordScores[doc] = Math.max(this.wordScores[doc], weights[i] * factor);
+                }
+            }
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = this.touched[i];
+                this.scores[doc] += this.wordScores[doc];
+                this.wordScores[doc] = 0;
+                this.matchedWords[doc] = q + 1;
+            }
+            if (q == 0) {
+                candidates = Arrays.copyOf(this.touched, touchedCount);
+                Arrays.sort(candidates);
+            }
+            if (touchedCount == 0) {
+                break;
+            }
+        }
+        
+        // Keep the candidates that matched every word, then reset the scratch arrays
+        int hitCount = 0;
+        int[] hits = new int[candidates.length];
+        int[] hitScores = new int[candidates.length];
+        for (int doc : candidates) {
+            if (this.matchedWords[doc] == wordCount) {
+                hits[hitCount] = doc;
+                hitScores[hitCount] = this.scores[doc];
+                hitCount++;
+            }
+            this.scores[doc] = 0;
+            this.matchedWords[doc] = 0;
+        }
+        
+        return topHits(hits, hitScores, hitCount, limit);
+    }
+    
+    private static int[] topHits(int[] hits, int[] hitScores, int count, int limit) {
+        // Insertion into a sorted window of size limit; hits arrive in document order,
+        // so placing a hit after equal scores keeps ties in document order
+        int size = Math.min(count, limit);
+        int[] best = new int[size];
+        int[] bestScores = new int[size];
+        int filled = 0;
+        for (int i = 0; i < count; i++) {
+            int score = hitScores[i];
+            if (filled == size && score <= bestScores[size - 1]) {
+                continue;
+            }
+            int pos = filled == size ? size - 1 : filled++;
+            while (pos > 0 && bestScores[pos - 1] < score) {
+                best[pos] = best[pos - 1];
+                bestScores[pos] = bestScores[pos - 1];
+                pos--;
+            }
+            best[pos] = hits[i];
+            bestScores[pos] = score;
+        }
+        return best;
+    }
+    
+    /**
+     * Collects document text, then builds the index once.
+     */
+    public static final class Builder {
+        private final Map<String, Integer> wordIds = new HashMap<>();
+        private final List<String> words = new ArrayList<>();
+        private final List<int[]> docs = new ArrayList<>();
+        private final List<int[]> weights = new ArrayList<>();
+        private final List<Integer> sizes = new ArrayList<>();
+        private int documentCount;
+        
+        /**
+         * Add text to a document. Documents must be added in ascending order,
+         * though one document may receive several texts (e.g. name and description).
+         * Weights below 1 are raised to 1.
+         */
+        public Builder add(int document, String text, int weight) {
+            if (document < this.documentCount - 1) {
+                throw new IllegalArgumentException("Documents must be added in order, got " + document + " after " + (this.documentCount - 1));
+            }
+            this.documentCount = document + 1;
+            for (String token : tokenize(text)) {
+                Integer id = this.wordIds.get(token);
+                if (id == null) {
+                    id = this.words.size();
+                    this.wordIds.put(token, id);
+                    this.words.add(token);
+                    this.docs.add(new int[2]);
+                    this.weights.add(new int[2]);
+                    this.sizes.add(0);
+                }
+                append(id, document, Math.max(1, weight));
+            }
+            return this;
+        }
+        
+        private void append(int id, int document, int weight) {
+            int size = this.sizes.get(id);
+            int[] docList = this.docs.get(id);
+            int[] weightList = this.weights.get(id);
+            if (size > 0 && docList[size - 1] == document) {
+                weightList[size - 1] = Math.max(weightList[size - 1], weight);
+                return;
+            }
+            if (size == docList.length) {
+                docList = Arrays.copyOf(docList, size * 2);
+                weightList = Arrays.copyOf(weightList, size * 2);
+                this.docs.set(id, docList);
+                this.weights.set(id, weightList);
+            }
+            docList[size] = document;
+            weightList[size] = weight;
+            this.sizes.set(id, size + 1);
+        }
+        
+        public SearchIndex build() {
+            int count = this.words.size();
+            int[][] postingDocs = new int[count][];
+            int[][] postingWeights = new int[count][];
+            for (int i = 0; i < count; i++) {
+                int size = this.sizes.get(i);
+                postingDocs[i] = Arrays.copyOf(this.docs.get(i), size);
+                postingWeights[i] = Arrays.copyOf(this.weights.get(i), size);
+            }
+            return new SearchIndex(this.documentCount, this.words.toArray(new String[0]), postingDocs, postingWeights);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.eclipseui.util;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.FormattedCharSequence;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared cache of measured text widths and wrapped lines, so widgets don't re-measure
+ * the same text every frame. Layouts are cached per font. Entries are evicted least-recently-used, and everything is
+ * dropped when the language changes or {@link #invalidate()} is called (e.g. on resize
+ * or resource reload, when font metrics may have changed).
+ * Only meant to be used from the render thread.
+ */
+public final class TextLayoutCache {
+    
+    private static final int MAX_WIDTHS = 512;
+    private static final int MAX_SPLITS = 64;
+    
+    // Widths by font, then by text; fonts are compared by identity and there are only a few
+    private static final Map<Font, Map<Object, Integer>> WIDTHS = new IdentityHashMap<>();
+    private static final Map<SplitKey, List<FormattedCharSequence>> SPLITS = new LruMap<>(MAX_SPLITS);
+    
+    private static int generation = 0;
+    private static int languageGeneration = 0;
+    private static String language = null;
+    
+    private TextLayoutCache() {
+    }
+    
+    /**
+     * Get the rendered width of a component.
+     */
+    public static int width(Font font, Component text) {
+        Map<Object, Integer> widths = widths(font);
+        Integer cached = widths.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        int width = font.width(text);
+        widths.put(text, width);
+        return width;
+    }
+    
+    /**
+     * Get the rendered width of a plain string.
+     */
+    public static int width(Font font, String text) {
+        Map<Object, Integer> widths = widths(font);
+        Integer cached = widths.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        int width = font.width(text);
+        widths.put(text, width);
+        return width;
+    }
+    
+    private static Map<Object, Integer> widths(Font font) {
+        Map<Object, Integer> widths = WIDTHS.get(font);
+        if (widths == null) {
+            widths = new LruMap<>(MAX_WIDTHS);
+            WIDTHS.put(font, widths);
+        }
+        return widths;
+    }
+    
+    /**
+     * Get a component wrapped to the given width. The returned list must not be modified.
+     */
+    public static List<FormattedCharSequence> split(Font font, Component text, int wrapWidth) {
+        SplitKey key = new SplitKey(font, text, wrapWidth);
+        List<FormattedCharSequence> cached = SPLITS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<FormattedCharSequence> lines = List.copyOf(font.split(text, wrapWidth));
+        SPLITS.put(key, lines);
+        return lines;
+    }
+    
+    /**
+     * Drop all cached layouts if the selected language changed since the last check.
+     * Call once per frame from screens that use the cache.
+     *
+     * @return true if the cache was invalidated
+     */
+    public static boolean checkLanguage() {
+        String selected = Minecraft.getInstance().getLanguageManager().getSelected();
+        if (!selected.equals(language)) {
+            language = selected;
+            languageGeneration++;
+            invalidate();
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Drop all cached layouts.
+     */
+    public static void invalidate() {
+        WIDTHS.clear();
+        SPLITS.clear();
+        generation++;
+    }
+    
+    /**
+     * Incremented on every invalidation, for callers that keep their own derived caches.
+     */
+    public static int generation() {
+        return generation;
+    }
+    
+    /**
+     * Incremented only when the selected language changes, for caches of translated text that
+     * font metrics don't affect.
+     */
+    public static int languageGeneration() {
+        return languageGeneration;
+    }
+    
+    private record SplitKey(Font font, Component text, int wrapWidth) {
+    }
+    
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        
+        private final int maxSize;
+        
+        LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > this.maxSize;
+        }
+    }
+}
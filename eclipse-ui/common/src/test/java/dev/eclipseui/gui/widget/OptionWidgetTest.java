@@ -0,0 +1,95 @@
+package dev.eclipseui.gui.widget;
+
+import dev.eclipseui.api.Theme;
+import dev.eclipseui.gui.theme.ThemeRegistry;
+import dev.eclipseui.util.Dim2i;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.network.chat.Component;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class OptionWidgetTest {
+    
+    private static final class Row extends OptionWidget {
+        int layoutChanges;
+        
+        Row(Dim2i dim) {
+            super(dim, ThemeRegistry.get(Theme.MODERN), Component.empty());
+        }
+        
+        @Override
+        protected void onLayoutChanged() {
+            layoutChanges++;
+        }
+        
+        @Override
+        protected void renderControl(GuiGraphicsExtractor graphics, int mouseX, int mouseY, float delta) {
+        }
+        
+        @Override
+        public void resetToDefault() {
+        }
+    }
+    
+    @Test
+    void splitsRowIntoLabelAndControl() {
+        Row row = new Row(new Dim2i(10, 20, 200, 20));
+        
+        assertEquals(new Dim2i(10, 20, 100, 20), row.getLabelDim());
+        assertEquals(new Dim2i(114, 20, 96, 20), row.getControlDim());
+    }
+    
+    @Test
+    void hookRunsOnlyWhenLayoutChanges() {
+        Row row = new Row(new Dim2i(0, 0, 200, 20));
+        assertEquals(0, row.layoutChanges);
+        
+        Dim2i label = row.getLabelDim();
+        row.setDim(new Dim2i(0, 0, 200, 20));
+        assertEquals(0, row.layoutChanges);
+        assertSame(label, row.getLabelDim());
+        
+        row.setDim(new Dim2i(0, 30, 200, 20));
+        assertEquals(1, row.layoutChanges);
+        assertEquals(30, row.getLabelDim().y());
+        
+        row.setTheme(ThemeRegistry.get(Theme.MODERN));
+        assertEquals(2, row.layoutChanges);
+    }
+    
+    @Test
+    void steadyStateLayoutDoesNotAllocate() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        
+        Row row = new Row(new Dim2i(0, 0, 200, 20));
+        Dim2i same = new Dim2i(0, 0, 200, 20);
+        int iterations = 100_000;
+        // Warm up, so the measured loop runs compiled code
+        long checksum = layoutLoop(row, same, iterations);
+        
+        long before = threads.getCurrentThreadAllocatedBytes();
+        checksum += layoutLoop(row, same, iterations);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        
+        assertTrue(checksum != 0);
+        // Far less than one object per iteration; a few bytes may come from the measurement itself
+        assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+    }
+    
+    private static long layoutLoop(Row row, Dim2i same, int iterations) {
+        long checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            row.setDim(same);
+            checksum += row.getLabelDim().width() + row.getControlDim().x();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,223 @@
+package dev.eclipseui.impl;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.eclipsecore.io.ChangeJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonConfigDataTest {
+    
+    @TempDir
+    Path dir;
+    
+    // Bound values; a second config reads them back into a fresh instance
+    private static final class Values {
+        int a;
+        int b;
+        String text = "";
+    }
+    
+    private enum Mode {
+        FAST, SLOW
+    }
+    
+    // Values for the codecs other than int and string, saved without a journal
+    private static final class Plain {
+        int color;
+        Mode mode = Mode.FAST;
+        List<Integer> list = new ArrayList<>();
+        double decimal;
+        int a;
+    }
+    
+    private static JsonConfigData plain(Path path, Plain values) {
+        return new JsonConfigData(path)
+            .color("color", 0xFFFFFFFF, () -> values.color, v -> values.color = v)
+            .enumValue("mode", Mode.class, Mode.FAST, () -> values.mode, v -> values.mode = v)
+            .list("list", List.of(), () -> values.list, v -> values.list = v, String::valueOf, Integer::valueOf)
+            .decimal("decimal", 0.5, () -> values.decimal, v -> values.decimal = v)
+            .integer("a", 0, () -> values.a, v -> values.a = v);
+    }
+    
+    private static JsonConfigData journaled(Path path, Values values) {
+        return new JsonConfigData(path)
+            .journal(1 << 20, 3)
+            .integer("a", 0, () -> values.a, v -> values.a = v)
+            .integer("b", 0, () -> values.b, v -> values.b = v)
+            .string("text", "", () -> values.text, v -> values.text = v);
+    }
+    
+    @Test
+    void savesChangesToJournal() throws IOException {
+        Path path = dir.resolve("config.json");
+        Path journal = dir.resolve("config.json.journal");
+        Values values = new Values();
+        JsonConfigData data = journaled(path, values);
+        data.load();
+        
+        values.a = 1;
+        data.save();
+        assertTrue(Files.exists(path));
+        assertFalse(Files.exists(journal));
+        String file = Files.readString(path);
+        
+        values.a = 2;
+        data.save();
+        values.b = 3;
+        data.save();
+        assertEquals(file, Files.readString(path));
+        assertTrue(Files.size(journal) > 0);
+        
+        Values loaded = new Values();
+        journaled(path, loaded).load();
+        assertEquals(2, loaded.a);
+        assertEquals(3, loaded.b);
+    }
+    
+    @Test
+    void compactsPastRecordLimit() throws IOException {
+        Path path = dir.resolve("config.json");
+        Path journal = dir.resolve("config.json.journal");
+        Values values = new Values();
+        JsonConfigData data = journaled(path, values);
+        data.load();
+        data.save();
+        
+        for (int i = 1; i <= 4; i++) {
+            values.a = i;
+            data.save();
+        }
+        assertFalse(Files.exists(journal));
+        
+        Values loaded = new Values();
+        journaled(path, loaded).load();
+        assertEquals(4, loaded.a);
+    }
+    
+    @Test
+    void replayOverCompactedFileKeepsValues() throws IOException {
+        Path path = dir.resolve("config.json");
+        Path journal = dir.resolve("config.json.journal");
+        Values values = new Values();
+        JsonConfigData data = journaled(path, values);
+        data.load();
+        data.save();
+        values.a = 1;
+        data.save();
+        values.text = "x";
+        data.save();
+        values.b = 2;
+        data.save();
+        byte[] records = Files.readAllBytes(journal);
+        
+        // The fourth save appends its change, then compacts into the file and deletes the journal
+        values.b = 5;
+        data.save();
+        assertFalse(Files.exists(journal));
+        
+        // As if the process died after replacing the file but before deleting the journal
+        Files.write(journal, records);
+        new ChangeJournal(journal).append(Map.of("b", "5"));
+        
+        Values loaded = new Values();
+        journaled(path, loaded).load();
+        assertEquals(1, loaded.a);
+        assertEquals(5, loaded.b);
+        assertEquals("x", loaded.text);
+    }
+    
+    @Test
+    void roundTripsPlainValues() throws IOException {
+        Path path = dir.resolve("config.json");
+        Plain values = new Plain();
+        JsonConfigData data = plain(path, values);
+        data.load();
+        
+        values.color = 0x80FF0000;
+        values.mode = Mode.SLOW;
+        values.list = List.of(1, 2, 3);
+        values.decimal = 2.25;
+        values.a = 7;
+        data.save();
+        String file = Files.readString(path);
+        assertTrue(file.contains("\"#80FF0000\""), file);
+        assertTrue(file.contains("\"SLOW\""), file);
+        
+        Plain loaded = new Plain();
+        plain(path, loaded).load();
+        assertEquals(0x80FF0000, loaded.color);
+        assertEquals(Mode.SLOW, loaded.mode);
+        assertEquals(List.of(1, 2, 3), loaded.list);
+        assertEquals(2.25, loaded.decimal);
+        assertEquals(7, loaded.a);
+    }
+    
+    @Test
+    void dropsBadListEntries() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{\"list\": [\"1\", \"x\", [2], \"3\"]}");
+        
+        Plain loaded = new Plain();
+        plain(path, loaded).load();
+        assertEquals(List.of(1, 3), loaded.list);
+    }
+    
+    @Test
+    void keepsUnclaimedKeysAcrossSave() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{\"a\": 1, \"other\": {\"x\": [1, 2]}}");
+        Plain values = new Plain();
+        JsonConfigData data = plain(path, values);
+        data.load();
+        assertEquals(1, values.a);
+        
+        values.a = 2;
+        data.save();
+        JsonObject file = JsonParser.parseString(Files.readString(path)).getAsJsonObject();
+        assertEquals(2, file.get("a").getAsInt());
+        assertEquals(JsonParser.parseString("{\"x\": [1, 2]}"), file.get("other"));
+    }
+    
+    @Test
+    void skipsWrongTypesAndLoadsTheRest() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{\"color\": [1], \"mode\": \"MEDIUM\", \"decimal\": true, \"list\": 3, \"a\": 4}");
+        
+        Plain loaded = new Plain();
+        plain(path, loaded).load();
+        assertEquals(0, loaded.color);
+        assertEquals(Mode.FAST, loaded.mode);
+        assertEquals(0.0, loaded.decimal);
+        assertEquals(List.of(), loaded.list);
+        assertEquals(4, loaded.a);
+    }
+    
+    @Test
+    void savesDefaultForNonFiniteDecimal() throws IOException {
+        Path path = dir.resolve("config.json");
+        Plain values = new Plain();
+        JsonConfigData data = plain(path, values);
+        data.load();
+        
+        values.decimal = Double.NaN;
+        values.a = 3;
+        data.save();
+        
+        Plain loaded = new Plain();
+        plain(path, loaded).load();
+        assertEquals(0.5, loaded.decimal);
+        assertEquals(3, loaded.a);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.eclipseui.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GapTextBufferTest {
+    
+    // 1 per BMP character, 10 per supplementary code point, 100 for a lone surrogate
+    private static int width(int codePoint) {
+        if (Character.isSurrogate((char) codePoint) && codePoint <= Character.MAX_VALUE) {
+            return 100;
+        }
+        return Character.isSupplementaryCodePoint(codePoint) ? 10 : 1;
+    }
+    
+    private static final String EMOJI = "😀";
+    
+    @Test
+    void measuresPairAsOneCodePoint() {
+        GapTextBuffer buffer = new GapTextBuffer(GapTextBufferTest::width);
+        buffer.set("a" + EMOJI + "b");
+        
+        assertEquals(12, buffer.totalWidth());
+        assertEquals(10, buffer.charWidth(1));
+        assertEquals(0, buffer.charWidth(2));
+        assertEquals(11, buffer.prefixWidth(3));
+        assertEquals(1, buffer.indexAtWidth(5));
+    }
+    
+    @Test
+    void joinsHalvesInsertedSeparately() {
+        GapTextBuffer buffer = new GapTextBuffer(GapTextBufferTest::width);
+        buffer.set("ab");
+        buffer.insert(1, EMOJI.substring(1));
+        assertEquals(102, buffer.totalWidth());
+        
+        buffer.insert(1, EMOJI.substring(0, 1));
+        assertEquals(12, buffer.totalWidth());
+        assertEquals(10, buffer.charWidth(1));
+    }
+    
+    @Test
+    void splitsPairOnPartialDelete() {
+        GapTextBuffer buffer = new GapTextBuffer(GapTextBufferTest::width);
+        buffer.set("a" + EMOJI + "b");
+        buffer.delete(2, 3);
+        assertEquals(102, buffer.totalWidth());
+        
+        buffer.delete(1, 2);
+        assertEquals(2, buffer.totalWidth());
+    }
+    
+    @Test
+    void keepsPairAcrossGapMoves() {
+        GapTextBuffer buffer = new GapTextBuffer(GapTextBufferTest::width);
+        buffer.set(EMOJI + EMOJI);
+        buffer.insert(2, "x");
+        buffer.insert(0, "y");
+        buffer.insert(buffer.length(), "z");
+        
+        assertEquals("y" + EMOJI + "x" + EMOJI + "z", buffer.toString());
+        assertEquals(23, buffer.totalWidth());
+    }
+}
@@ -0,0 +1,26 @@
+package dev.eclipseui.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PieceTableTest {
+    
+    @Test
+    void readsCharsAcrossPieces() {
+        PieceTable table = new PieceTable("ad\nf");
+        table.insert(1, "bc");
+        table.insert(5, "e");
+        table.delete(3, 4);
+        String expected = "abc\nef";
+        
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(expected.charAt(i), table.charAt(i));
+        }
+        assertEquals(expected, table.toString());
+        // Reads from the cached string now
+        assertEquals(expected.charAt(2), table.charAt(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.charAt(expected.length()));
+    }
+}
@@ -0,0 +1,18 @@
+package dev.eclipseui.fabric;
+
+import dev.eclipseui.EclipseUI;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+
+/**
+ * Waits for background config loads once the client has started.
+ * Kept apart from {@link EclipseUIFabric} so Fabric API classes are only loaded when it is installed.
+ */
+final class ClientStartedHook {
+    
+    private ClientStartedHook() {
+    }
+    
+    static void register() {
+        ClientLifecycleEvents.CLIENT_STARTED.register(client -> EclipseUI.awaitConfigs());
+    }
+}
@@ -3,6 +3,7 @@ package dev.eclipseui.fabric;
 import dev.eclipseplatform.EclipsePlatform;
 import dev.eclipseui.EclipseUI;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.loader.api.FabricLoader;
 
 /**
  * Fabric client entry point for EclipseUI.
@@ -13,5 +14,11 @@ public class EclipseUIFabric implements ClientModInitializer {
     public void onInitializeClient() {
         EclipsePlatform.init();
         EclipseUI.init();
+        
+        // Configs loaded in the background must be in place before the game is played.
+        // Fabric API is optional; without it, mods call EclipseUI.awaitConfigs() themselves.
+        if (FabricLoader.getInstance().isModLoaded("fabric-lifecycle-events-v1")) {
+            ClientStartedHook.register();
+        }
     }
 }
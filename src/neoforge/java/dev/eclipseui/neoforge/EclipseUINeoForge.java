@@ -3,8 +3,10 @@ package dev.eclipseui.neoforge;
 import dev.eclipseplatform.EclipsePlatform;
 import dev.eclipseui.EclipseUI;
 import dev.eclipseui.example.ExampleConfigScreens;
+import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.neoforged.neoforge.client.gui.IConfigScreenFactory;
 
 /**
@@ -13,10 +15,13 @@ import net.neoforged.neoforge.client.gui.IConfigScreenFactory;
 @Mod(EclipseUI.MOD_ID)
 public final class EclipseUINeoForge {
 
-    public EclipseUINeoForge(ModContainer container) {
+    public EclipseUINeoForge(IEventBus modEventBus, ModContainer container) {
         EclipsePlatform.init();
         EclipseUI.init();
 
+        // Configs loaded in the background must be in place before the game is played
+        modEventBus.addListener(FMLLoadCompleteEvent.class, event -> EclipseUI.awaitConfigs());
+
         IConfigScreenFactory configScreenFactory = (modContainer, parent) -> ExampleConfigScreens.createModernScreen(parent);
         container.registerExtensionPoint(IConfigScreenFactory.class, configScreenFactory);
     }
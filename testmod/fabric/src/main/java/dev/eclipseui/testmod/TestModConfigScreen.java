@@ -64,7 +64,7 @@ public class TestModConfigScreen {
                 .colorPicker(c -> c
                     .name(Component.literal("Primary Color"))
                     .description(Component.literal("Main theme color"))
-                    .binding(() -> config.primaryColor, v -> config.primaryColor = v)
+                    .bindingAsInt(() -> config.primaryColor, v -> config.primaryColor = v)
                     .defaultValue(0xFF5555FF)
                     .allowAlpha(false)
                 )
@@ -72,7 +72,7 @@ public class TestModConfigScreen {
                 .colorPicker(c -> c
                     .name(Component.literal("Secondary Color"))
                     .description(Component.literal("Accent color for highlights"))
-                    .binding(() -> config.secondaryColor, v -> config.secondaryColor = v)
+                    .bindingAsInt(() -> config.secondaryColor, v -> config.secondaryColor = v)
                     .defaultValue(0xFF55FF55)
                     .allowAlpha(false)
                 )
@@ -80,7 +80,7 @@ public class TestModConfigScreen {
                 .colorPicker(c -> c
                     .name(Component.literal("Accent Color"))
                     .description(Component.literal("Color for important elements"))
-                    .binding(() -> config.accentColor, v -> config.accentColor = v)
+                    .bindingAsInt(() -> config.accentColor, v -> config.accentColor = v)
                     .defaultValue(0xFFFF5555)
                     .allowAlpha(true)
                 )
@@ -91,7 +91,7 @@ public class TestModConfigScreen {
                     .name(Component.literal("UI Scale"))
                     .description(Component.literal("Scale factor for UI elements"))
                     .range(0.5, 2.0, 0.25)
-                    .bindingDouble(() -> config.uiScale, v -> config.uiScale = v)
+                    .bindingAsDouble(() -> config.uiScale, v -> config.uiScale = v)
                     .defaultValue(1.0)
                     .percentageFormat()
                 )
@@ -122,14 +122,14 @@ public class TestModConfigScreen {
                 .toggle(t -> t
                     .name(Component.literal("Enable Mod"))
                     .description(Component.literal("Master toggle for all features"))
-                    .binding(() -> config.enableMod, v -> config.enableMod = v)
+                    .bindingAsBoolean(() -> config.enableMod, v -> config.enableMod = v)
                     .defaultValue(true)
                 )
                 
                 .toggle(t -> t
                     .name(Component.literal("Show Notifications"))
                     .description(Component.literal("Display popup notifications"))
-                    .binding(() -> config.showNotifications, v -> config.showNotifications = v)
+                    .bindingAsBoolean(() -> config.showNotifications, v -> config.showNotifications = v)
                     .defaultValue(true)
                 )
                 
@@ -138,14 +138,14 @@ public class TestModConfigScreen {
                 .toggle(t -> t
                     .name(Component.literal("Debug Mode"))
                     .description(Component.literal("Enable debug logging"))
-                    .binding(() -> config.debugMode, v -> config.debugMode = v)
+                    .bindingAsBoolean(() -> config.debugMode, v -> config.debugMode = v)
                     .defaultValue(false)
                 )
                 
                 .toggle(t -> t
                     .name(Component.literal("Experimental Features"))
                     .description(Component.literal("Enable unstable features\n§cMay cause issues!"))
-                    .binding(() -> config.experimentalFeatures, v -> config.experimentalFeatures = v)
+                    .bindingAsBoolean(() -> config.experimentalFeatures, v -> config.experimentalFeatures = v)
                     .defaultValue(false)
                     .requiresRestart(true)
                 )
@@ -168,7 +168,7 @@ public class TestModConfigScreen {
                     .name(Component.literal("Render Distance"))
                     .description(Component.literal("World render distance"))
                     .range(2, 32, 1)
-                    .bindingInt(() -> config.renderDistance, v -> config.renderDistance = v)
+                    .bindingAsInt(() -> config.renderDistance, v -> config.renderDistance = v)
                     .defaultValue(12)
                     .suffix(" chunks")
                 )
@@ -177,7 +177,7 @@ public class TestModConfigScreen {
                     .name(Component.literal("Brightness"))
                     .description(Component.literal("Screen brightness"))
                     .range(0.0, 2.0, 0.1)
-                    .bindingDouble(() -> config.brightness, v -> config.brightness = v)
+                    .bindingAsDouble(() -> config.brightness, v -> config.brightness = v)
                     .defaultValue(1.0)
                     .percentageFormat()
                 )
@@ -187,14 +187,14 @@ public class TestModConfigScreen {
                 .toggle(t -> t
                     .name(Component.literal("Enable Shaders"))
                     .description(Component.literal("Shader-based effects"))
-                    .binding(() -> config.enableShaders, v -> config.enableShaders = v)
+                    .bindingAsBoolean(() -> config.enableShaders, v -> config.enableShaders = v)
                     .defaultValue(false)
                 )
                 
                 .toggle(t -> t
                     .name(Component.literal("Fancy Particles"))
                     .description(Component.literal("Enhanced particles"))
-                    .binding(() -> config.fancyParticles, v -> config.fancyParticles = v)
+                    .bindingAsBoolean(() -> config.fancyParticles, v -> config.fancyParticles = v)
                     .defaultValue(true)
                 )
                 
@@ -202,7 +202,7 @@ public class TestModConfigScreen {
                     .name(Component.literal("Max FPS"))
                     .description(Component.literal("Frame rate limit"))
                     .range(0, 240, 10)
-                    .bindingInt(() -> config.maxFps, v -> config.maxFps = v)
+                    .bindingAsInt(() -> config.maxFps, v -> config.maxFps = v)
                     .defaultValue(60)
                     .suffix(" FPS")
                 )
@@ -217,7 +217,7 @@ public class TestModConfigScreen {
                     .name(Component.literal("Master Volume"))
                     .description(Component.literal("Overall volume"))
                     .range(0, 100, 5)
-                    .bindingInt(() -> config.masterVolume, v -> config.masterVolume = v)
+                    .bindingAsInt(() -> config.masterVolume, v -> config.masterVolume = v)
                     .defaultValue(100)
                     .suffix("%")
                 )
@@ -226,7 +226,7 @@ public class TestModConfigScreen {
                     .name(Component.literal("Music Volume"))
                     .description(Component.literal("Background music"))
                     .range(0, 100, 5)
-                    .bindingInt(() -> config.musicVolume, v -> config.musicVolume = v)
+                    .bindingAsInt(() -> config.musicVolume, v -> config.musicVolume = v)
                     .defaultValue(80)
                     .suffix("%")
                 )
@@ -235,7 +235,7 @@ public class TestModConfigScreen {
                     .name(Component.literal("Sound Effects"))
                     .description(Component.literal("SFX volume"))
                     .range(0, 100, 5)
-                    .bindingInt(() -> config.sfxVolume, v -> config.sfxVolume = v)
+                    .bindingAsInt(() -> config.sfxVolume, v -> config.sfxVolume = v)
                     .defaultValue(100)
                     .suffix("%")
                 )
@@ -253,7 +253,7 @@ public class TestModConfigScreen {
                 .toggle(t -> t
                     .name(Component.literal("Mute When Unfocused"))
                     .description(Component.literal("Mute when game loses focus"))
-                    .binding(() -> config.muteWhenUnfocused, v -> config.muteWhenUnfocused = v)
+                    .bindingAsBoolean(() -> config.muteWhenUnfocused, v -> config.muteWhenUnfocused = v)
                     .defaultValue(false)
                 )
             )